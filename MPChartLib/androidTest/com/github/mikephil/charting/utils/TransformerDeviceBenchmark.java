@@ -0,0 +1,185 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Matrix;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Benchmark of the Transformer against the real Matrix.mapPoints(...) of the
+ * device it runs on, e.g. "gradlew connectedAndroidTest". Checks that both
+ * compute the same pixels and logs the time per point of both (tag
+ * "TransformerBenchmark"). The JVM only TransformerBenchmark cannot tell how
+ * fast the native mapping of the platform is.
+ */
+@RunWith(AndroidJUnit4.class)
+public class TransformerDeviceBenchmark {
+
+    private static final String LOG_TAG = "TransformerBenchmark";
+
+    private static final int POINTS = 200000;
+    private static final int ROUNDS = 20;
+
+    private ViewPortHandler mViewPortHandler;
+    private Transformer mTransformer;
+
+    /** the value, touch and offset matrix concatenated by the platform */
+    private Matrix mMatrix;
+
+    private float[] mValues;
+
+    @Before
+    public void setUp() {
+
+        mViewPortHandler = new ViewPortHandler();
+        mViewPortHandler.setChartDimens(1080f, 1200f);
+        mViewPortHandler.restrainViewPort(48f, 24f, 24f, 64f);
+
+        // zoomed in and panned, as while dragging
+        Matrix touch = new Matrix();
+        touch.postScale(4f, 1.5f);
+        touch.postTranslate(-1500f, -200f);
+        mViewPortHandler.refresh(touch, null, false);
+
+        mTransformer = new Transformer(mViewPortHandler);
+        mTransformer.prepareMatrixValuePx(0f, POINTS, 2000f, -1000f);
+        mTransformer.prepareMatrixOffset(false);
+
+        mMatrix = new Matrix(mTransformer.getValueMatrix());
+        mMatrix.postConcat(mViewPortHandler.getMatrixTouch());
+        mMatrix.postConcat(mTransformer.getOffsetMatrix());
+
+        mValues = new float[POINTS * 2];
+
+        for (int i = 0; i < POINTS; i++) {
+            mValues[i * 2] = i;
+            mValues[i * 2 + 1] = (float) (Math.sin(i / 100.0) * 1000.0);
+        }
+    }
+
+    @Test
+    public void pointValuesToPixel() {
+
+        float[] platform = new float[mValues.length];
+        float[] transformer = new float[mValues.length];
+
+        long platformTime = 0;
+        long transformerTime = 0;
+
+        // the first rounds warm up both and are not measured
+        for (int i = -ROUNDS; i < ROUNDS; i++) {
+
+            System.arraycopy(mValues, 0, platform, 0, mValues.length);
+            long start = System.nanoTime();
+            mMatrix.mapPoints(platform);
+            long platformRound = System.nanoTime() - start;
+
+            System.arraycopy(mValues, 0, transformer, 0, mValues.length);
+            start = System.nanoTime();
+            mTransformer.pointValuesToPixel(transformer);
+            long transformerRound = System.nanoTime() - start;
+
+            if (i >= 0) {
+                platformTime += platformRound;
+                transformerTime += transformerRound;
+            }
+        }
+
+        for (int i = 0; i < mValues.length; i++)
+            assertEquals(platform[i], transformer[i], Math.abs(platform[i]) * 1e-5f + 1e-3f);
+
+        log("Matrix.mapPoints", platformTime);
+        log("pointValuesToPixel", transformerTime);
+    }
+
+    @Test
+    public void pointValuesToPixelInBounds() {
+
+        float[] platform = new float[mValues.length];
+        float[] transformer = new float[mValues.length];
+        int[] indices = new int[POINTS];
+
+        long platformTime = 0;
+        long transformerTime = 0;
+
+        int platformSize = 0;
+        int transformerSize = 0;
+
+        for (int i = -ROUNDS; i < ROUNDS; i++) {
+
+            // what the renderers did before: map all, then skip the invisible
+            System.arraycopy(mValues, 0, platform, 0, mValues.length);
+            long start = System.nanoTime();
+            mMatrix.mapPoints(platform);
+            platformSize = cull(platform);
+            long platformRound = System.nanoTime() - start;
+
+            System.arraycopy(mValues, 0, transformer, 0, mValues.length);
+            start = System.nanoTime();
+            transformerSize = mTransformer.pointValuesToPixelInBounds(transformer, 0,
+                    transformer.length, transformer, 0, indices);
+            long transformerRound = System.nanoTime() - start;
+
+            if (i >= 0) {
+                platformTime += platformRound;
+                transformerTime += transformerRound;
+            }
+        }
+
+        assertTrue(transformerSize > 0);
+
+        // points right on the edge of the content rect may be decided
+        // differently because of rounding
+        assertEquals(platformSize, transformerSize, 8);
+
+        for (int i = 0; i < transformerSize; i += 2) {
+
+            float x = mValues[indices[i / 2] * 2];
+            float y = mValues[indices[i / 2] * 2 + 1];
+
+            float[] expected = new float[] {
+                    x, y
+            };
+            mMatrix.mapPoints(expected);
+
+            assertEquals(expected[0], transformer[i], Math.abs(expected[0]) * 1e-5f + 1e-3f);
+            assertEquals(expected[1], transformer[i + 1], Math.abs(expected[1]) * 1e-5f + 1e-3f);
+        }
+
+        log("Matrix.mapPoints and culling", platformTime);
+        log("pointValuesToPixelInBounds", transformerTime);
+    }
+
+    /**
+     * Moves the points within the content rect to the front of the array like
+     * the renderers cull them, returns the number of values kept.
+     */
+    private int cull(float[] pts) {
+
+        int size = 0;
+
+        for (int i = 0; i < pts.length; i += 2) {
+
+            if (!mViewPortHandler.isInBoundsLeft(pts[i])
+                    || !mViewPortHandler.isInBoundsRight(pts[i])
+                    || !mViewPortHandler.isInBoundsY(pts[i + 1]))
+                continue;
+
+            pts[size++] = pts[i];
+            pts[size++] = pts[i + 1];
+        }
+
+        return size;
+    }
+
+    private static void log(String name, long time) {
+        Log.i(LOG_TAG, String.format("%s: %.3f ns per point", name,
+                time / ((double) POINTS * ROUNDS)));
+    }
+}
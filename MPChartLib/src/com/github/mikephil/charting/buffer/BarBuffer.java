@@ -44,14 +44,14 @@ public class BarBuffer extends AbstractBuffer<BarEntry> {
     @Override
     public void feed(List<BarEntry> entries) {
 
-        float size = entries.size() * phaseX;
+        float size = (mTo - mFrom) * phaseX + mFrom;
 
         int dataSetOffset = (mDataSetCount - 1);
         float barSpaceHalf = mBarSpace / 2f;
         float groupSpaceHalf = mGroupSpace / 2f;
         float barWidth = 0.5f;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = mFrom; i < size; i++) {
 
             BarEntry e = entries.get(i);
 
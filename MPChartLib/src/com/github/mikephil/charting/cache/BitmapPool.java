@@ -0,0 +1,131 @@
+package com.github.mikephil.charting.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayList;
+
+/**
+ * Process-wide pool of offscreen bitmaps shared by all chart renderers.
+ * Renderers acquire a bitmap only while they need to draw offscreen and hand
+ * it back afterwards, so that many charts of the same size (e.g. in a list)
+ * share a few bitmaps instead of each keeping its own. The pooled (unused)
+ * bitmaps are kept up to a byte budget. Attached charts forward the memory
+ * callbacks of the application to onTrimMemory(...), which releases them when
+ * memory gets low.
+ */
+public final class BitmapPool {
+
+    /** the bitmaps that are currently not in use */
+    private static final ArrayList<Bitmap> mPool = new ArrayList<Bitmap>();
+
+    /** the maximum amount of bytes the unused bitmaps may take */
+    private static long mMaxBytes = 8 * 1024 * 1024;
+
+    /** the amount of bytes currently taken by the unused bitmaps */
+    private static long mBytes = 0;
+
+    private BitmapPool() {
+    }
+
+    /**
+     * Returns a transparent bitmap with the given size and config, reusing a
+     * pooled one if possible. Hand it back with release(...) once it is not
+     * needed anymore.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public static synchronized Bitmap acquire(int width, int height, Bitmap.Config config) {
+
+        for (int i = mPool.size() - 1; i >= 0; i--) {
+
+            Bitmap bitmap = mPool.get(i);
+
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height
+                    && bitmap.getConfig() == config) {
+
+                mPool.remove(i);
+                mBytes -= bytesOf(bitmap);
+
+                bitmap.eraseColor(Color.TRANSPARENT);
+                return bitmap;
+            }
+        }
+
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Hands a bitmap obtained by acquire(...) back to the pool. The bitmap
+     * must not be used by the caller afterwards. If the pool is full, the
+     * least recently released bitmaps are recycled.
+     *
+     * @param bitmap
+     */
+    public static synchronized void release(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled())
+            return;
+
+        mPool.add(bitmap);
+        mBytes += bytesOf(bitmap);
+
+        trimToSize(mMaxBytes);
+    }
+
+    /**
+     * Sets the maximum amount of bytes the unused bitmaps of the pool may
+     * take, default: 8 MB.
+     *
+     * @param maxBytes
+     */
+    public static synchronized void setMaxBytes(long maxBytes) {
+        mMaxBytes = maxBytes;
+        trimToSize(mMaxBytes);
+    }
+
+    public static synchronized long getMaxBytes() {
+        return mMaxBytes;
+    }
+
+    /**
+     * Recycles all unused bitmaps of the pool. Bitmaps currently acquired by
+     * renderers are not affected.
+     */
+    public static synchronized void clear() {
+        trimToSize(0);
+    }
+
+    /**
+     * Releases memory depending on the given trim level, as passed to
+     * ComponentCallbacks2.onTrimMemory(...). As soon as the app is running
+     * low on memory or its UI is hidden, all unused bitmaps are recycled.
+     *
+     * @param level
+     */
+    public static synchronized void onTrimMemory(int level) {
+
+        // TRIM_MEMORY_RUNNING_LOW (10) and above, except TRIM_MEMORY_RUNNING_MODERATE (5)
+        if (level >= 10)
+            clear();
+        else
+            trimToSize(mMaxBytes / 2);
+    }
+
+    private static void trimToSize(long maxBytes) {
+
+        while (mBytes > maxBytes && !mPool.isEmpty()) {
+
+            Bitmap bitmap = mPool.remove(0);
+            mBytes -= bytesOf(bitmap);
+            bitmap.recycle();
+        }
+    }
+
+    private static long bytesOf(Bitmap bitmap) {
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.mikephil.charting.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import java.util.List;
+
+/**
+ * Pre-rendered circle indicators (outer circle and hole) of one DataSet, one
+ * small bitmap per circle color. Stamping the bitmaps is much faster than
+ * drawing two anti-aliased circles per entry. The bitmaps are only rendered
+ * again if the styling of the circles changes.
+ */
+public class CircleSprites {
+
+    /**
+     * the maximum number of circle colors sprites are rendered for, DataSets
+     * with more colors should draw their circles directly
+     */
+    public static final int MAX_COLORS = 32;
+
+    private float mRadius = -1f;
+    private float mHoleRadius = -1f;
+    private boolean mDrawHole = false;
+    private int mHoleColor = 0;
+
+    /** the circle colors the sprites were rendered for */
+    private int[] mColors = new int[0];
+
+    /** one sprite per circle color */
+    private Bitmap[] mSprites = new Bitmap[0];
+
+    /** the size of the (square) sprites in pixels */
+    private int mSize = 0;
+
+    private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Canvas mCanvas = new Canvas();
+
+    public CircleSprites() {
+        mPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Makes sure the sprites match the given styling and renders them again
+     * if not. Returns false if there are more colors than MAX_COLORS, in
+     * that case no sprites are available.
+     *
+     * @param radius the radius of the circles
+     * @param holeRadius the radius of the holes
+     * @param drawHole true if the holes should be drawn
+     * @param holeColor
+     * @param colors the colors of the circles
+     * @return
+     */
+    public boolean update(float radius, float holeRadius, boolean drawHole, int holeColor,
+                          List<Integer> colors) {
+
+        int count = colors.size();
+
+        if (count > MAX_COLORS || count == 0)
+            return false;
+
+        if (isValid(radius, holeRadius, drawHole, holeColor, colors))
+            return true;
+
+        recycle();
+
+        mRadius = radius;
+        mHoleRadius = holeRadius;
+        mDrawHole = drawHole;
+        mHoleColor = holeColor;
+
+        // space for anti-aliasing on each side
+        mSize = (int) Math.ceil(radius * 2f) + 2;
+
+        mColors = new int[count];
+        mSprites = new Bitmap[count];
+
+        float center = mSize / 2f;
+
+        for (int i = 0; i < count; i++) {
+
+            int color = colors.get(i);
+
+            Bitmap sprite = Bitmap.createBitmap(mSize, mSize, Bitmap.Config.ARGB_8888);
+            mCanvas.setBitmap(sprite);
+
+            mPaint.setColor(color);
+            mCanvas.drawCircle(center, center, radius, mPaint);
+
+            if (drawHole && color != holeColor) {
+                mPaint.setColor(holeColor);
+                mCanvas.drawCircle(center, center, holeRadius, mPaint);
+            }
+
+            mColors[i] = color;
+            mSprites[i] = sprite;
+        }
+
+        return true;
+    }
+
+    private boolean isValid(float radius, float holeRadius, boolean drawHole, int holeColor,
+                            List<Integer> colors) {
+
+        if (radius != mRadius || holeRadius != mHoleRadius || drawHole != mDrawHole
+                || holeColor != mHoleColor || colors.size() != mColors.length)
+            return false;
+
+        for (int i = 0; i < mColors.length; i++) {
+            if (colors.get(i) != mColors[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the sprite for the circle color at the given index (reusing
+     * colors like the DataSet does).
+     *
+     * @param colorIndex
+     * @return
+     */
+    public Bitmap getSprite(int colorIndex) {
+        return mSprites[colorIndex % mSprites.length];
+    }
+
+    /**
+     * Returns the distance from the center of a circle to the left and top
+     * edge of its sprite.
+     *
+     * @return
+     */
+    public float getOffset() {
+        return mSize / 2f;
+    }
+
+    /**
+     * Recycles all sprites, they are rendered again with the next update.
+     */
+    public void recycle() {
+
+        for (Bitmap sprite : mSprites) {
+            if (sprite != null)
+                sprite.recycle();
+        }
+
+        mSprites = new Bitmap[0];
+        mColors = new int[0];
+        mRadius = -1f;
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.mikephil.charting.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+
+/**
+ * A cached bitmap layer of a chart, e.g. the grid background and axis lines
+ * behind the data. The layer is only rendered again if the state it depends
+ * on (size, content rect, configuration version, ...) differs from the state
+ * it was rendered with, otherwise the cached bitmap is just composited.
+ */
+public class RenderLayer {
+
+    private Bitmap mBitmap = null;
+    private Canvas mCanvas = null;
+
+    /** the state the layer was rendered with the last time */
+    private float[] mKey = new float[0];
+
+    private boolean mValid = false;
+
+    /**
+     * Returns true if the layer was rendered with the given state and can be
+     * drawn without rendering it again.
+     *
+     * @param key
+     * @return
+     */
+    public boolean isValid(float[] key) {
+
+        if (!mValid || mBitmap == null || mBitmap.isRecycled() || key.length != mKey.length)
+            return false;
+
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != mKey[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a canvas to render the layer into. The bitmap of the layer is
+     * (re)created if the size changed, otherwise it is cleared.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public Canvas beginRender(int width, int height) {
+
+        mValid = false;
+
+        if (mBitmap == null || mBitmap.isRecycled() || mBitmap.getWidth() != width
+                || mBitmap.getHeight() != height) {
+
+            if (mBitmap != null)
+                mBitmap.recycle();
+
+            mBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+            if (mCanvas == null)
+                mCanvas = new Canvas(mBitmap);
+            else
+                mCanvas.setBitmap(mBitmap);
+
+        } else {
+            mBitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        return mCanvas;
+    }
+
+    /**
+     * Marks the layer as rendered with the given state.
+     *
+     * @param key
+     */
+    public void endRender(float[] key) {
+
+        if (mKey.length != key.length)
+            mKey = new float[key.length];
+
+        System.arraycopy(key, 0, mKey, 0, key.length);
+        mValid = true;
+    }
+
+    /**
+     * Draws the cached layer onto the given canvas.
+     *
+     * @param c
+     */
+    public void draw(Canvas c) {
+
+        if (mBitmap != null && !mBitmap.isRecycled())
+            c.drawBitmap(mBitmap, 0, 0, null);
+    }
+
+    /**
+     * Forces the layer to be rendered again when drawn the next time.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Recycles the bitmap of the layer.
+     */
+    public void release() {
+
+        mValid = false;
+
+        if (mBitmap != null) {
+            mBitmap.recycle();
+            mBitmap = null;
+        }
+    }
+}
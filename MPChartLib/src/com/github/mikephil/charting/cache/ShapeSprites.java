@@ -0,0 +1,184 @@
+package com.github.mikephil.charting.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import com.github.mikephil.charting.charts.ScatterChart.ScatterShape;
+
+import java.util.List;
+
+/**
+ * Pre-rendered scatter shapes of one DataSet, one small bitmap per shape
+ * color. Stamping the bitmaps avoids setting up and rasterizing a rect,
+ * circle or path for every single entry. The bitmaps are only rendered again
+ * if the shape, its size or the colors change.
+ */
+public class ShapeSprites {
+
+    /**
+     * the maximum number of shape colors sprites are rendered for, DataSets
+     * with more colors should draw their shapes directly
+     */
+    public static final int MAX_COLORS = 32;
+
+    private ScatterShape mShape = null;
+    private float mShapeSize = -1f;
+    private float mStrokeWidth = -1f;
+
+    /** the shape colors the sprites were rendered for */
+    private int[] mColors = new int[0];
+
+    /** one sprite per shape color */
+    private Bitmap[] mSprites = new Bitmap[0];
+
+    /** the size of the (square) sprites in pixels */
+    private int mSize = 0;
+
+    private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Canvas mCanvas = new Canvas();
+    private final Path mPath = new Path();
+
+    /**
+     * Makes sure the sprites match the given shape and colors and renders
+     * them again if not. Returns false if there are more colors than
+     * MAX_COLORS, in that case no sprites are available.
+     *
+     * @param shape
+     * @param shapeSize the width and height of the shape
+     * @param strokeWidth the width of the lines of the CROSS shape
+     * @param colors the colors of the shapes
+     * @return
+     */
+    public boolean update(ScatterShape shape, float shapeSize, float strokeWidth,
+                          List<Integer> colors) {
+
+        int count = colors.size();
+
+        if (count > MAX_COLORS || count == 0)
+            return false;
+
+        if (isValid(shape, shapeSize, strokeWidth, colors))
+            return true;
+
+        recycle();
+
+        mShape = shape;
+        mShapeSize = shapeSize;
+        mStrokeWidth = strokeWidth;
+
+        // space for the stroke and anti-aliasing on each side
+        mSize = (int) Math.ceil(shapeSize + strokeWidth) + 2;
+
+        mColors = new int[count];
+        mSprites = new Bitmap[count];
+
+        for (int i = 0; i < count; i++) {
+
+            int color = colors.get(i);
+
+            Bitmap sprite = Bitmap.createBitmap(mSize, mSize, Bitmap.Config.ARGB_8888);
+            mCanvas.setBitmap(sprite);
+
+            mPaint.setColor(color);
+            drawShape(mCanvas, mSize / 2f, mSize / 2f);
+
+            mColors[i] = color;
+            mSprites[i] = sprite;
+        }
+
+        return true;
+    }
+
+    /**
+     * Draws the current shape centered at the given position.
+     *
+     * @param c
+     * @param x
+     * @param y
+     */
+    private void drawShape(Canvas c, float x, float y) {
+
+        float shapeHalf = mShapeSize / 2f;
+
+        switch (mShape) {
+            case SQUARE:
+                mPaint.setStyle(Paint.Style.FILL);
+                c.drawRect(x - shapeHalf, y - shapeHalf, x + shapeHalf, y + shapeHalf, mPaint);
+                break;
+            case CIRCLE:
+                mPaint.setStyle(Paint.Style.FILL);
+                c.drawCircle(x, y, shapeHalf, mPaint);
+                break;
+            case TRIANGLE:
+                mPaint.setStyle(Paint.Style.FILL);
+                mPath.reset();
+                mPath.moveTo(x, y - shapeHalf);
+                mPath.lineTo(x + shapeHalf, y + shapeHalf);
+                mPath.lineTo(x - shapeHalf, y + shapeHalf);
+                mPath.close();
+                c.drawPath(mPath, mPaint);
+                break;
+            case CROSS:
+                mPaint.setStyle(Paint.Style.STROKE);
+                mPaint.setStrokeWidth(mStrokeWidth);
+                c.drawLine(x - shapeHalf, y, x + shapeHalf, y, mPaint);
+                c.drawLine(x, y - shapeHalf, x, y + shapeHalf, mPaint);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean isValid(ScatterShape shape, float shapeSize, float strokeWidth,
+                            List<Integer> colors) {
+
+        if (shape != mShape || shapeSize != mShapeSize || strokeWidth != mStrokeWidth
+                || colors.size() != mColors.length)
+            return false;
+
+        for (int i = 0; i < mColors.length; i++) {
+            if (colors.get(i) != mColors[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the sprite for the shape color at the given index (reusing
+     * colors like the DataSet does).
+     *
+     * @param colorIndex
+     * @return
+     */
+    public Bitmap getSprite(int colorIndex) {
+        return mSprites[colorIndex % mSprites.length];
+    }
+
+    /**
+     * Returns the distance from the center of a shape to the left and top
+     * edge of its sprite.
+     *
+     * @return
+     */
+    public float getOffset() {
+        return mSize / 2f;
+    }
+
+    /**
+     * Recycles all sprites, they are rendered again with the next update.
+     */
+    public void recycle() {
+
+        for (Bitmap sprite : mSprites) {
+            if (sprite != null)
+                sprite.recycle();
+        }
+
+        mSprites = new Bitmap[0];
+        mColors = new int[0];
+        mShape = null;
+    }
+}
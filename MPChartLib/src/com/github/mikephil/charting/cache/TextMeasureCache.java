@@ -0,0 +1,263 @@
+package com.github.mikephil.charting.cache;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+/**
+ * Bounded least-recently-used cache of text measurements, keyed by typeface,
+ * text size and text. Holds both the advance width (Paint.measureText(...))
+ * and the size of the text bounds (Paint.getTextBounds(...)) of a text, each
+ * measured on first use only. Once the cache is full, the least recently
+ * used entry is reused for the next text, so lookups do not allocate any
+ * memory. All methods are synchronized, the cache may be shared by charts
+ * rendering on different threads.
+ */
+public class TextMeasureCache {
+
+    private static class Node {
+
+        Typeface typeface;
+        float textSize;
+        String text;
+        int hash;
+
+        boolean hasWidth;
+        float width;
+
+        boolean hasBounds;
+        int boundsWidth;
+        int boundsHeight;
+
+        /** next node in the same bucket */
+        Node next;
+
+        /** neighbours in the usage order */
+        Node newer;
+        Node older;
+    }
+
+    private final int mCapacity;
+
+    private final Node[] mBuckets;
+
+    private int mSize = 0;
+
+    /** the most and least recently used nodes */
+    private Node mNewest = null;
+    private Node mOldest = null;
+
+    /** buffer for measuring text bounds */
+    private final Rect mBounds = new Rect();
+
+    /**
+     * Creates a cache holding the measurements of at most the given number of
+     * texts.
+     *
+     * @param capacity
+     */
+    public TextMeasureCache(int capacity) {
+
+        mCapacity = Math.max(capacity, 1);
+
+        int buckets = 1;
+        while (buckets < mCapacity * 2)
+            buckets <<= 1;
+
+        mBuckets = new Node[buckets];
+    }
+
+    /**
+     * Returns the advance width of the given text drawn with the given paint,
+     * like Paint.measureText(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized float measureText(Paint paint, String text) {
+
+        Node node = obtain(paint, text);
+
+        if (!node.hasWidth) {
+            node.width = paint.measureText(text);
+            node.hasWidth = true;
+        }
+
+        return node.width;
+    }
+
+    /**
+     * Returns the width of the bounds of the given text drawn with the given
+     * paint, like Paint.getTextBounds(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized int getBoundsWidth(Paint paint, String text) {
+        return obtainBounds(paint, text).boundsWidth;
+    }
+
+    /**
+     * Returns the height of the bounds of the given text drawn with the given
+     * paint, like Paint.getTextBounds(...).
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized int getBoundsHeight(Paint paint, String text) {
+        return obtainBounds(paint, text).boundsHeight;
+    }
+
+    /**
+     * Removes all cached measurements.
+     */
+    public synchronized void clear() {
+
+        for (int i = 0; i < mBuckets.length; i++)
+            mBuckets[i] = null;
+
+        mNewest = null;
+        mOldest = null;
+        mSize = 0;
+    }
+
+    /**
+     * Returns the number of texts currently cached.
+     *
+     * @return
+     */
+    public synchronized int size() {
+        return mSize;
+    }
+
+    private Node obtainBounds(Paint paint, String text) {
+
+        Node node = obtain(paint, text);
+
+        if (!node.hasBounds) {
+            paint.getTextBounds(text, 0, text.length(), mBounds);
+            node.boundsWidth = mBounds.width();
+            node.boundsHeight = mBounds.height();
+            node.hasBounds = true;
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the node for the given paint and text and marks it as the most
+     * recently used one. If there is none, the least recently used node is
+     * reused (or a new one created while the cache is not full).
+     */
+    private Node obtain(Paint paint, String text) {
+
+        Typeface typeface = paint.getTypeface();
+        float textSize = paint.getTextSize();
+
+        int hash = text.hashCode() * 31 + Float.floatToIntBits(textSize);
+        hash = hash * 31 + System.identityHashCode(typeface);
+        hash ^= (hash >>> 16);
+
+        int bucket = hash & (mBuckets.length - 1);
+
+        for (Node node = mBuckets[bucket]; node != null; node = node.next) {
+
+            if (node.hash == hash && node.textSize == textSize && node.typeface == typeface
+                    && (node.text == text || node.text.equals(text))) {
+
+                moveToNewest(node);
+                return node;
+            }
+        }
+
+        Node node;
+
+        if (mSize < mCapacity) {
+            node = new Node();
+            mSize++;
+        } else {
+            node = mOldest;
+            removeFromBucket(node);
+            unlink(node);
+        }
+
+        node.typeface = typeface;
+        node.textSize = textSize;
+        node.text = text;
+        node.hash = hash;
+        node.hasWidth = false;
+        node.hasBounds = false;
+
+        node.next = mBuckets[bucket];
+        mBuckets[bucket] = node;
+
+        linkNewest(node);
+
+        return node;
+    }
+
+    private void moveToNewest(Node node) {
+
+        if (node == mNewest)
+            return;
+
+        unlink(node);
+        linkNewest(node);
+    }
+
+    private void linkNewest(Node node) {
+
+        node.older = mNewest;
+        node.newer = null;
+
+        if (mNewest != null)
+            mNewest.newer = node;
+
+        mNewest = node;
+
+        if (mOldest == null)
+            mOldest = node;
+    }
+
+    private void unlink(Node node) {
+
+        if (node.newer != null)
+            node.newer.older = node.older;
+        else
+            mNewest = node.older;
+
+        if (node.older != null)
+            node.older.newer = node.newer;
+        else
+            mOldest = node.newer;
+
+        node.newer = null;
+        node.older = null;
+    }
+
+    private void removeFromBucket(Node node) {
+
+        int bucket = node.hash & (mBuckets.length - 1);
+
+        Node prev = null;
+
+        for (Node n = mBuckets[bucket]; n != null; n = n.next) {
+
+            if (n == node) {
+
+                if (prev == null)
+                    mBuckets[bucket] = n.next;
+                else
+                    prev.next = n.next;
+
+                node.next = null;
+                return;
+            }
+
+            prev = n;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.github.mikephil.charting.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of bitmap tiles the data of a chart is rendered into. Each tile
+ * has the size of the content area and is identified by the zoom level (scale
+ * and y-translation of the touch matrix) and its index on the x-axis (the
+ * number of content widths it is away from the unpanned position). While
+ * panning, the cached tiles are only drawn with a translation and just the
+ * newly exposed tiles need to be rendered. Tiles are evicted in least
+ * recently used order once the given byte budget is exceeded.
+ */
+public class TileCache {
+
+    /**
+     * identifies a tile by zoom level and tile index
+     */
+    private static class TileKey {
+
+        float scaleX;
+        float scaleY;
+        float transY;
+        int index;
+
+        TileKey set(float scaleX, float scaleY, float transY, int index) {
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.transY = transY;
+            this.index = index;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof TileKey))
+                return false;
+
+            TileKey k = (TileKey) o;
+            return index == k.index && scaleX == k.scaleX && scaleY == k.scaleY
+                    && transY == k.transY;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Float.floatToIntBits(scaleX);
+            result = 31 * result + Float.floatToIntBits(scaleY);
+            result = 31 * result + Float.floatToIntBits(transY);
+            result = 31 * result + index;
+            return result;
+        }
+    }
+
+    /**
+     * a rendered tile and the range of x-indices it displays
+     */
+    private static class Tile {
+
+        Bitmap bitmap;
+        int fromXIndex;
+        int toXIndex;
+
+        /** the frame in which this tile was drawn the last time */
+        long frame;
+    }
+
+    /** all cached tiles in access order, least recently used first */
+    private final LinkedHashMap<TileKey, Tile> mTiles = new LinkedHashMap<TileKey, Tile>(16,
+            0.75f, true);
+
+    /** reused for lookups, so that no key needs to be allocated */
+    private final TileKey mLookupKey = new TileKey();
+
+    /** evicted bitmap that is reused for the next tile */
+    private Bitmap mSpareBitmap = null;
+
+    /**
+     * bitmaps of removed tiles that were drawn in the current frame, they are
+     * released with the next call to beginFrame()
+     */
+    private final ArrayList<Bitmap> mPendingRelease = new ArrayList<Bitmap>();
+
+    private long mMaxBytes;
+    private long mBytes = 0;
+
+    private int mTileWidth = 0;
+    private int mTileHeight = 0;
+
+    /** incremented with every frame, tiles drawn in the current frame are never evicted */
+    private long mFrame = 0;
+
+    /**
+     * Creates a new tile cache that holds at most the given amount of bytes
+     * of bitmaps (at least the tiles needed for one frame are always kept).
+     *
+     * @param maxBytes
+     */
+    public TileCache(long maxBytes) {
+        mMaxBytes = maxBytes;
+    }
+
+    /**
+     * Sets the maximum amount of bytes the cached tiles may take.
+     *
+     * @param maxBytes
+     */
+    public void setMaxBytes(long maxBytes) {
+        mMaxBytes = maxBytes;
+        trimToSize();
+    }
+
+    public long getMaxBytes() {
+        return mMaxBytes;
+    }
+
+    /**
+     * Returns the amount of bytes currently taken by the cached tiles,
+     * including removed tiles that are still in use by the current frame.
+     *
+     * @return
+     */
+    public long getSizeInBytes() {
+        return mBytes;
+    }
+
+    public int getTileWidth() {
+        return mTileWidth;
+    }
+
+    public int getTileHeight() {
+        return mTileHeight;
+    }
+
+    /**
+     * Sets the size of the tiles in pixels. If it differs from the current
+     * size, all tiles are removed.
+     *
+     * @param width
+     * @param height
+     */
+    public void setTileSize(int width, int height) {
+
+        if (width == mTileWidth && height == mTileHeight)
+            return;
+
+        clear();
+
+        mTileWidth = width;
+        mTileHeight = height;
+    }
+
+    /**
+     * Needs to be called before the tiles of a new frame are requested.
+     */
+    public void beginFrame() {
+
+        mFrame++;
+
+        for (int i = 0; i < mPendingRelease.size(); i++)
+            releaseBitmap(mPendingRelease.get(i));
+
+        mPendingRelease.clear();
+    }
+
+    /**
+     * Returns the bitmap of the tile with the given zoom level and index, or
+     * null if it is not cached.
+     *
+     * @param scaleX
+     * @param scaleY
+     * @param transY
+     * @param index
+     * @return
+     */
+    public Bitmap get(float scaleX, float scaleY, float transY, int index) {
+
+        Tile tile = mTiles.get(mLookupKey.set(scaleX, scaleY, transY, index));
+
+        if (tile == null)
+            return null;
+
+        tile.frame = mFrame;
+        return tile.bitmap;
+    }
+
+    /**
+     * Returns an empty (transparent) bitmap with the size of a tile that can
+     * be rendered into and handed over to put(...). Reuses evicted bitmaps if
+     * possible.
+     *
+     * @return
+     */
+    public Bitmap obtainBitmap() {
+
+        Bitmap bitmap = mSpareBitmap;
+        mSpareBitmap = null;
+
+        if (bitmap == null || bitmap.isRecycled() || bitmap.getWidth() != mTileWidth
+                || bitmap.getHeight() != mTileHeight) {
+
+            if (bitmap != null)
+                bitmap.recycle();
+
+            bitmap = Bitmap.createBitmap(mTileWidth, mTileHeight, Bitmap.Config.ARGB_8888);
+        } else {
+            bitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Adds a rendered tile to the cache and evicts least recently used tiles
+     * if the byte budget is exceeded.
+     *
+     * @param scaleX
+     * @param scaleY
+     * @param transY
+     * @param index
+     * @param bitmap the bitmap obtained by obtainBitmap() the tile was rendered
+     *            into
+     * @param fromXIndex the lowest x-index displayed by the tile
+     * @param toXIndex the highest x-index displayed by the tile
+     */
+    public void put(float scaleX, float scaleY, float transY, int index, Bitmap bitmap,
+                    int fromXIndex, int toXIndex) {
+
+        Tile tile = new Tile();
+        tile.bitmap = bitmap;
+        tile.fromXIndex = fromXIndex;
+        tile.toXIndex = toXIndex;
+        tile.frame = mFrame;
+
+        Tile old = mTiles.put(new TileKey().set(scaleX, scaleY, transY, index), tile);
+
+        if (old != null)
+            release(old);
+
+        mBytes += bytesOf(bitmap);
+
+        trimToSize();
+    }
+
+    /**
+     * Removes all tiles that display any of the x-indices between from and to
+     * (inclusive). Call this after entries in that range have been modified.
+     *
+     * @param fromXIndex
+     * @param toXIndex
+     */
+    public void invalidate(int fromXIndex, int toXIndex) {
+
+        Iterator<Tile> it = mTiles.values().iterator();
+
+        while (it.hasNext()) {
+
+            Tile tile = it.next();
+
+            if (tile.toXIndex >= fromXIndex && tile.fromXIndex <= toXIndex) {
+                it.remove();
+                release(tile);
+            }
+        }
+    }
+
+    /**
+     * Removes all tiles from the cache and recycles their bitmaps.
+     */
+    public void clear() {
+
+        for (Tile tile : mTiles.values()) {
+            tile.bitmap.recycle();
+        }
+
+        mTiles.clear();
+
+        for (int i = 0; i < mPendingRelease.size(); i++)
+            mPendingRelease.get(i).recycle();
+
+        mPendingRelease.clear();
+        mBytes = 0;
+
+        if (mSpareBitmap != null) {
+            mSpareBitmap.recycle();
+            mSpareBitmap = null;
+        }
+    }
+
+    /**
+     * Evicts least recently used tiles until the budget is met. Tiles drawn in
+     * the current frame are kept.
+     */
+    private void trimToSize() {
+
+        Iterator<Map.Entry<TileKey, Tile>> it = mTiles.entrySet().iterator();
+
+        while (mBytes > mMaxBytes && it.hasNext()) {
+
+            Tile tile = it.next().getValue();
+
+            if (tile.frame == mFrame)
+                continue;
+
+            it.remove();
+            release(tile);
+        }
+    }
+
+    /**
+     * Releases the bitmap of a removed tile. The bitmap of a tile drawn in the
+     * current frame might still be in use, it is released at the beginning of
+     * the next frame.
+     *
+     * @param tile
+     */
+    private void release(Tile tile) {
+
+        if (tile.frame == mFrame)
+            mPendingRelease.add(tile.bitmap);
+        else
+            releaseBitmap(tile.bitmap);
+    }
+
+    /**
+     * Keeps the given bitmap for reuse, or recycles it.
+     *
+     * @param bitmap
+     */
+    private void releaseBitmap(Bitmap bitmap) {
+
+        mBytes -= bytesOf(bitmap);
+
+        if (mSpareBitmap == null)
+            mSpareBitmap = bitmap;
+        else
+            bitmap.recycle();
+    }
+
+    private static long bytesOf(Bitmap bitmap) {
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+}
@@ -222,7 +222,9 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
 		float step = mData.getDataSetCount();
 		float div = (step <= 1) ? 1 : step + mData.getGroupSpace();
 
-		float[] pts = new float[] { mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom() };
+		float[] pts = mPointBuffer;
+		pts[0] = mViewPortHandler.contentLeft();
+		pts[1] = mViewPortHandler.contentBottom();
 
 		getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
 		return (int) ((pts[0] <= getXChartMin()) ? 0 : (pts[0] / div) + 1);
@@ -239,9 +241,29 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
 		float step = mData.getDataSetCount();
 		float div = (step <= 1) ? 1 : step + mData.getGroupSpace();
 
-		float[] pts = new float[] { mViewPortHandler.contentRight(), mViewPortHandler.contentBottom() };
+		float[] pts = mPointBuffer;
+		pts[0] = mViewPortHandler.contentRight();
+		pts[1] = mViewPortHandler.contentBottom();
 
 		getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
 		return (int) ((pts[0] >= getXChartMax()) ? getXChartMax() / div : (pts[0] / div));
 	}
+
+	/**
+	 * Returns the left edge of the group of bars at the given x-index.
+	 */
+	@Override
+	protected float getXValueForXIndex(int xIndex) {
+
+		float groupSpace = mData.getGroupSpace();
+		return xIndex * (mData.getDataSetCount() + groupSpace) + groupSpace / 2f - 0.5f;
+	}
+
+	@Override
+	protected int getXIndexForXValue(float xValue) {
+
+		float groupSpace = mData.getGroupSpace();
+		return (int) Math.floor((xValue - groupSpace / 2f + 0.5f)
+				/ (mData.getDataSetCount() + groupSpace));
+	}
 }
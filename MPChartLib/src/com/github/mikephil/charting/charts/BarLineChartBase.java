@@ -2,17 +2,23 @@
 package com.github.mikephil.charting.charts;
 
 import android.annotation.SuppressLint;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
 import android.graphics.PointF;
+import android.graphics.PorterDuff;
+import android.graphics.RectF;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.view.MotionEvent;
 
+import com.github.mikephil.charting.cache.RenderLayer;
+import com.github.mikephil.charting.cache.TileCache;
 import com.github.mikephil.charting.components.Legend.LegendPosition;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
@@ -54,8 +60,14 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      * flag that indicates if auto scaling on the y axis is enabled
      */
     private boolean mAutoScaleMinMaxEnabled = false;
-    private Integer mAutoScaleLastLowestVisibleXIndex = null;
-    private Integer mAutoScaleLastHighestVisibleXIndex = null;
+    private int mAutoScaleLastLowestVisibleXIndex = Integer.MIN_VALUE;
+    private int mAutoScaleLastHighestVisibleXIndex = Integer.MIN_VALUE;
+
+    /** buffer for transforming single points, e.g. the visible x-indices */
+    protected float[] mPointBuffer = new float[2];
+
+    /** the position returned by getMarkerPosition(...), reused */
+    private float[] mMarkerPositionBuffer = new float[2];
 
     /**
      * flag that indicates if pinch-zoom is enabled. if true, both x and y axis
@@ -135,6 +147,84 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     // /** the approximator object used for data filtering */
     // private Approximator mApproximator;
 
+    /**
+     * cache of bitmap tiles the data is rendered into, null if disabled
+     */
+    protected TileCache mTileCache = null;
+
+    /**
+     * canvas used for rendering the data into tiles
+     */
+    private Canvas mTileCanvas = null;
+
+    /**
+     * buffer for the values of the touch matrix while rendering tiles or
+     * incrementally drawn strips
+     */
+    private float[] mTileMatrixBuffer = new float[9];
+
+    /**
+     * axis ranges the cached tiles have been rendered with
+     */
+    private float[] mTileAxisRanges = new float[6];
+
+    /**
+     * true if the parts of the chart that do not move with the viewport
+     * (grid background, axis lines, legend) are cached in bitmap layers
+     */
+    protected boolean mLayerCacheEnabled = false;
+
+    /**
+     * cached layers behind the data and of the legend
+     */
+    private RenderLayer mBehindDataLayer = new RenderLayer();
+    private RenderLayer mLegendLayer = new RenderLayer();
+
+    /**
+     * state the cached layers depend on, see calcLayerKey()
+     */
+    private float[] mLayerKey = new float[7];
+
+    /**
+     * incremented whenever the configuration of the chart changes in a way
+     * the cached layers cannot detect
+     */
+    private int mLayerVersion = 0;
+
+    /**
+     * true if the data is redrawn incrementally by shifting the previous
+     * frame, for charts that follow appended data in real-time
+     */
+    protected boolean mIncrementalDrawEnabled = false;
+
+    /**
+     * the data of the previous frame and the bitmap it is shifted into
+     */
+    private Bitmap mIncrementalBitmap = null;
+    private Bitmap mIncrementalSpareBitmap = null;
+    private Canvas mIncrementalCanvas = null;
+
+    /**
+     * value-to-pixel matrices of the current frame and of the frame the
+     * bitmap was rendered with
+     */
+    private float[] mIncrementalLeft = new float[9];
+    private float[] mIncrementalRight = new float[9];
+    private float[] mIncrementalLastLeft = new float[9];
+    private float[] mIncrementalLastRight = new float[9];
+
+    /**
+     * number of entries and lowest x-index of the last entry of all
+     * DataSets the bitmap was rendered with
+     */
+    private int mIncrementalYValCount = 0;
+    private int mIncrementalLastXIndex = 0;
+
+    /** the data the bitmap was rendered with */
+    private T mIncrementalData = null;
+
+    private boolean mIncrementalValid = false;
+
     public BarLineChartBase(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
     }
@@ -180,6 +270,19 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mBorderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
     }
 
+    /** the values the x-axis modulus was last calculated with */
+    protected float mModulusScale = 0f;
+    protected float mModulusContentSize = 0f;
+    protected int mModulusLabelSize = 0;
+    protected int mModulusXValCount = -1;
+
+    /**
+     * the x-axis modulus that was last calculated, if the modulus of the axis
+     * differs (e.g. after setLabelsToSkip(...) and resetLabelsToSkip()), it
+     * is calculated again
+     */
+    protected int mModulus = -1;
+
     // for performance tracking
     private long totalTime = 0;
     private long drawCycles = 0;
@@ -197,25 +300,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mXAxisRenderer.calcXBounds(this, mXAxis.mAxisLabelModulus);
         mRenderer.calcXBounds(this, mXAxis.mAxisLabelModulus);
 
-        // execute all drawing commands
-        drawGridBackground(canvas);
-
-        if (mAxisLeft.isEnabled())
-            mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum);
-        if (mAxisRight.isEnabled())
-            mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum);
-
-        mXAxisRenderer.renderAxisLine(canvas);
-        mAxisRendererLeft.renderAxisLine(canvas);
-        mAxisRendererRight.renderAxisLine(canvas);
-
         if (mAutoScaleMinMaxEnabled) {
             final int lowestVisibleXIndex = getLowestVisibleXIndex();
             final int highestVisibleXIndex = getHighestVisibleXIndex();
 
-            if (mAutoScaleLastLowestVisibleXIndex == null ||
-                    mAutoScaleLastLowestVisibleXIndex != lowestVisibleXIndex ||
-                    mAutoScaleLastHighestVisibleXIndex == null ||
+            if (mAutoScaleLastLowestVisibleXIndex != lowestVisibleXIndex ||
                     mAutoScaleLastHighestVisibleXIndex != highestVisibleXIndex) {
 
                 calcMinMax();
@@ -226,34 +315,46 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             }
         }
 
-        // make sure the graph values and grid cannot be drawn outside the
-        // content-rect
-        int clipRestoreCount = canvas.save();
-        canvas.clipRect(mViewPortHandler.getContentRect());
+        if (mAxisLeft.isEnabled())
+            mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum);
+        if (mAxisRight.isEnabled())
+            mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum);
 
-        mXAxisRenderer.renderGridLines(canvas);
-        mAxisRendererLeft.renderGridLines(canvas);
-        mAxisRendererRight.renderGridLines(canvas);
+        final boolean layered = mLayerCacheEnabled && getWidth() > 0 && getHeight() > 0;
 
-        if (mXAxis.isDrawLimitLinesBehindDataEnabled())
-            mXAxisRenderer.renderLimitLines(canvas);
+        // execute all drawing commands
+        if (layered) {
 
-        if (mAxisLeft.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererLeft.renderLimitLines(canvas);
+            calcLayerKey();
 
-        if (mAxisRight.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererRight.renderLimitLines(canvas);
+            if (!mBehindDataLayer.isValid(mLayerKey)) {
+                drawChromeBehindData(mBehindDataLayer.beginRender(getWidth(), getHeight()));
+                mBehindDataLayer.endRender(mLayerKey);
+            }
 
-        mRenderer.drawData(canvas);
+            mBehindDataLayer.draw(canvas);
 
-        if (!mXAxis.isDrawLimitLinesBehindDataEnabled())
-            mXAxisRenderer.renderLimitLines(canvas);
+        } else {
+            drawChromeBehindData(canvas);
+        }
 
-        if (!mAxisLeft.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererLeft.renderLimitLines(canvas);
+        // make sure the graph values and grid cannot be drawn outside the
+        // content-rect
+        int clipRestoreCount = canvas.save();
+        canvas.clipRect(mViewPortHandler.getContentRect());
 
-        if (!mAxisRight.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererRight.renderLimitLines(canvas);
+        renderGridBehindData(canvas);
+
+        if (mAnimator.getPhaseX() != 1f || mAnimator.getPhaseY() != 1f)
+            mRenderer.drawData(canvas);
+        else if (mIncrementalDrawEnabled)
+            drawDataIncremental(canvas);
+        else if (mTileCache != null)
+            drawDataTiled(canvas);
+        else
+            mRenderer.drawData(canvas);
+
+        renderLimitLinesInFrontOfData(canvas);
 
         // if highlighting is enabled
         if (valuesToHighlight())
@@ -270,7 +371,18 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         mRenderer.drawValues(canvas);
 
-        mLegendRenderer.renderLegend(canvas);
+        if (layered) {
+
+            if (!mLegendLayer.isValid(mLayerKey)) {
+                mLegendRenderer.renderLegend(mLegendLayer.beginRender(getWidth(), getHeight()));
+                mLegendLayer.endRender(mLayerKey);
+            }
+
+            mLegendLayer.draw(canvas);
+
+        } else {
+            mLegendRenderer.renderLegend(canvas);
+        }
 
         drawMarkers(canvas);
 
@@ -327,6 +439,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mRenderer != null)
             mRenderer.initBuffers();
 
+        if (mTileCache != null)
+            mTileCache.clear();
+
+        mLayerVersion++;
+
         calcMinMax();
 
 //        if (mAxisLeft.needsDefaultFormatter())
@@ -541,13 +658,20 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         if (!mXAxis.isAxisModulusCustom()) {
 
-            float[] values = new float[9];
-            mViewPortHandler.getMatrixTouch().getValues(values);
+            // the modulus only changes with zoom, data or label size, not
+            // while panning
+            if (!isModulusOutdated(mViewPortHandler.getScaleX(),
+                    mViewPortHandler.contentWidth(), mXAxis.mLabelRotatedWidth))
+                return;
 
             mXAxis.mAxisLabelModulus = (int) Math
                     .ceil((mData.getXValCount() * mXAxis.mLabelRotatedWidth)
-                            / (mViewPortHandler.contentWidth() * values[Matrix.MSCALE_X]));
+                            / (mViewPortHandler.contentWidth() * mViewPortHandler.getScaleX()));
+
+            if (mXAxis.mAxisLabelModulus < 1)
+                mXAxis.mAxisLabelModulus = 1;
 
+            mModulus = mXAxis.mAxisLabelModulus;
         }
 
         if (mLogEnabled)
@@ -560,6 +684,34 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mXAxis.mAxisLabelModulus = 1;
     }
 
+    /**
+     * Returns true if the x-axis modulus needs to be recalculated because the
+     * scale, the content size, the label size or the number of x-values
+     * changed since the last calculation, or because the modulus of the axis
+     * was changed in the meantime. Remembers the given values.
+     *
+     * @param scale       the zoom scale along the x-axis
+     * @param contentSize the size of the content area along the x-axis
+     * @param labelSize   the (rotated) size of a label along the x-axis
+     * @return
+     */
+    protected boolean isModulusOutdated(float scale, float contentSize, int labelSize) {
+
+        int xValCount = mData.getXValCount();
+
+        if (scale == mModulusScale && contentSize == mModulusContentSize
+                && labelSize == mModulusLabelSize && xValCount == mModulusXValCount
+                && mXAxis.mAxisLabelModulus == mModulus)
+            return false;
+
+        mModulusScale = scale;
+        mModulusContentSize = contentSize;
+        mModulusLabelSize = labelSize;
+        mModulusXValCount = xValCount;
+
+        return true;
+    }
+
     @Override
     protected float[] getMarkerPosition(Entry e, Highlight highlight) {
 
@@ -609,9 +761,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         }
 
         // position of the marker depends on selected value index and value
-        float[] pts = new float[]{
-                xPos, yPos
-        };
+        float[] pts = mMarkerPositionBuffer;
+        pts[0] = xPos;
+        pts[1] = yPos;
 
         getTransformer(mData.getDataSetByIndex(dataSetIndex).getAxisDependency())
                 .pointValuesToPixel(pts);
@@ -619,6 +771,397 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return pts;
     }
 
+    /**
+     * Draws the data by compositing the cached tiles that cover the content
+     * area. Tiles that are not cached yet are rendered by temporarily
+     * translating the touch matrix as if the chart was panned to the position
+     * of the tile.
+     *
+     * @param c
+     */
+    protected void drawDataTiled(Canvas c) {
+
+        RectF content = mViewPortHandler.getContentRect();
+
+        // rounded down, so that adjacent tiles do not leave gaps
+        int tileWidth = (int) content.width();
+        int tileHeight = (int) Math.ceil(content.height());
+
+        if (tileWidth <= 0 || tileHeight <= 0)
+            return;
+
+        mTileCache.setTileSize(tileWidth, tileHeight);
+
+        // tiles are only valid for the axis ranges they were rendered with
+        if (mTileAxisRanges[0] != mAxisLeft.mAxisMinimum
+                || mTileAxisRanges[1] != mAxisLeft.mAxisRange
+                || mTileAxisRanges[2] != mAxisRight.mAxisMinimum
+                || mTileAxisRanges[3] != mAxisRight.mAxisRange
+                || mTileAxisRanges[4] != mXChartMin
+                || mTileAxisRanges[5] != mDeltaX) {
+
+            mTileCache.clear();
+
+            mTileAxisRanges[0] = mAxisLeft.mAxisMinimum;
+            mTileAxisRanges[1] = mAxisLeft.mAxisRange;
+            mTileAxisRanges[2] = mAxisRight.mAxisMinimum;
+            mTileAxisRanges[3] = mAxisRight.mAxisRange;
+            mTileAxisRanges[4] = mXChartMin;
+            mTileAxisRanges[5] = mDeltaX;
+        }
+
+        Matrix touch = mViewPortHandler.getMatrixTouch();
+        touch.getValues(mTileMatrixBuffer);
+
+        final float scaleX = mTileMatrixBuffer[Matrix.MSCALE_X];
+        final float scaleY = mTileMatrixBuffer[Matrix.MSCALE_Y];
+        final float transX = mTileMatrixBuffer[Matrix.MTRANS_X];
+        final float transY = mTileMatrixBuffer[Matrix.MTRANS_Y];
+
+        // tiles covering the content area
+        int first = (int) Math.floor(-transX / tileWidth);
+        int last = (int) Math.floor((-transX + content.width() - 1f) / tileWidth);
+
+        mTileCache.beginFrame();
+
+        for (int i = first; i <= last; i++) {
+
+            Bitmap tile = mTileCache.get(scaleX, scaleY, transY, i);
+
+            if (tile == null) {
+
+                tile = mTileCache.obtainBitmap();
+
+                mTileMatrixBuffer[Matrix.MTRANS_X] = -i * tileWidth;
+                touch.setValues(mTileMatrixBuffer);
+
+                mRenderer.calcXBounds(this, mXAxis.mAxisLabelModulus);
+
+                if (mTileCanvas == null)
+                    mTileCanvas = new Canvas();
+
+                mTileCanvas.setBitmap(tile);
+
+                int restoreCount = mTileCanvas.save();
+                mTileCanvas.translate(-content.left, -content.top);
+                mRenderer.drawData(mTileCanvas);
+                mTileCanvas.restoreToCount(restoreCount);
+
+                // lines reach one entry beyond the visible ones
+                mTileCache.put(scaleX, scaleY, transY, i, tile,
+                        getLowestVisibleXIndex() - 1, getHighestVisibleXIndex() + 1);
+
+                mTileMatrixBuffer[Matrix.MTRANS_X] = transX;
+                touch.setValues(mTileMatrixBuffer);
+            }
+
+            c.drawBitmap(tile, content.left + i * tileWidth + transX, content.top, null);
+        }
+
+        mRenderer.calcXBounds(this, mXAxis.mAxisLabelModulus);
+    }
+
+    /**
+     * Draws the parts behind the data that do not move with the viewport:
+     * grid background and axis lines.
+     *
+     * @param c
+     */
+    protected void drawChromeBehindData(Canvas c) {
+
+        drawGridBackground(c);
+
+        mXAxisRenderer.renderAxisLine(c);
+        mAxisRendererLeft.renderAxisLine(c);
+        mAxisRendererRight.renderAxisLine(c);
+    }
+
+    /**
+     * Draws the grid lines and the limit lines that are located behind the
+     * data.
+     *
+     * @param c
+     */
+    protected void renderGridBehindData(Canvas c) {
+
+        mXAxisRenderer.renderGridLines(c);
+        mAxisRendererLeft.renderGridLines(c);
+        mAxisRendererRight.renderGridLines(c);
+
+        if (mXAxis.isDrawLimitLinesBehindDataEnabled())
+            mXAxisRenderer.renderLimitLines(c);
+
+        if (mAxisLeft.isDrawLimitLinesBehindDataEnabled())
+            mAxisRendererLeft.renderLimitLines(c);
+
+        if (mAxisRight.isDrawLimitLinesBehindDataEnabled())
+            mAxisRendererRight.renderLimitLines(c);
+    }
+
+    /**
+     * Draws the limit lines that are located in front of the data.
+     *
+     * @param c
+     */
+    protected void renderLimitLinesInFrontOfData(Canvas c) {
+
+        if (!mXAxis.isDrawLimitLinesBehindDataEnabled())
+            mXAxisRenderer.renderLimitLines(c);
+
+        if (!mAxisLeft.isDrawLimitLinesBehindDataEnabled())
+            mAxisRendererLeft.renderLimitLines(c);
+
+        if (!mAxisRight.isDrawLimitLinesBehindDataEnabled())
+            mAxisRendererRight.renderLimitLines(c);
+    }
+
+    /**
+     * Draws the data by shifting the data bitmap of the previous frame by the
+     * distance the chart was moved (in whole pixels) and only rendering the
+     * newly exposed strip and the part that changed by appending entries. If
+     * the scale or the y-axis changed, or entries were removed, everything is
+     * rendered again.
+     *
+     * @param c
+     */
+    protected void drawDataIncremental(Canvas c) {
+
+        RectF content = mViewPortHandler.getContentRect();
+
+        int width = (int) Math.ceil(content.width());
+        int height = (int) Math.ceil(content.height());
+
+        if (width <= 0 || height <= 0)
+            return;
+
+        if (mIncrementalBitmap == null || mIncrementalBitmap.getWidth() != width
+                || mIncrementalBitmap.getHeight() != height) {
+
+            releaseIncrementalBitmaps();
+
+            mIncrementalBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            mIncrementalSpareBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+            if (mIncrementalCanvas == null)
+                mIncrementalCanvas = new Canvas();
+        }
+
+        mLeftAxisTransformer.getValueToPixelMatrix().getValues(mIncrementalLeft);
+        mRightAxisTransformer.getValueToPixelMatrix().getValues(mIncrementalRight);
+
+        final float transX = mIncrementalLeft[Matrix.MTRANS_X];
+        final float scaleX = mIncrementalLeft[Matrix.MSCALE_X];
+
+        int yValCount = mData.getYValCount();
+
+        // distance between the frame the bitmap was rendered with and the
+        // current one, only whole pixels can be shifted
+        int shift = Math.round(transX - mIncrementalLastLeft[Matrix.MTRANS_X]);
+
+        boolean full = !mIncrementalValid
+                || mIncrementalData != mData
+                || yValCount < mIncrementalYValCount
+                || Math.abs(shift) >= width
+                || !isSameScale(mIncrementalLeft, mIncrementalLastLeft)
+                || !isSameScale(mIncrementalRight, mIncrementalLastRight);
+
+        float dirtyLeft = width;
+        float dirtyRight = 0f;
+
+        // the transX the content of the bitmap corresponds to
+        float bitmapTransX;
+
+        if (full) {
+
+            mIncrementalBitmap.eraseColor(Color.TRANSPARENT);
+
+            bitmapTransX = transX;
+            dirtyLeft = 0f;
+            dirtyRight = width;
+
+        } else {
+
+            bitmapTransX = mIncrementalLastLeft[Matrix.MTRANS_X] + shift;
+
+            if (shift != 0) {
+
+                mIncrementalSpareBitmap.eraseColor(Color.TRANSPARENT);
+                mIncrementalCanvas.setBitmap(mIncrementalSpareBitmap);
+                mIncrementalCanvas.drawBitmap(mIncrementalBitmap, shift, 0, null);
+
+                Bitmap shifted = mIncrementalSpareBitmap;
+                mIncrementalSpareBitmap = mIncrementalBitmap;
+                mIncrementalBitmap = shifted;
+
+                if (shift < 0) {
+                    dirtyLeft = width + shift;
+                    dirtyRight = width;
+                } else {
+                    dirtyLeft = 0f;
+                    dirtyRight = shift;
+                }
+            }
+
+            // entries have been appended, the last segments (cubic lines
+            // depend on the next entry) need to be rendered again
+            if (yValCount > mIncrementalYValCount) {
+
+                float x = scaleX * getXValueForXIndex(mIncrementalLastXIndex - 2) + bitmapTransX
+                        - content.left;
+
+                // covers the width of the lines
+                x -= Utils.convertDpToPixel(5f);
+
+                dirtyLeft = Math.min(dirtyLeft, x);
+                dirtyRight = width;
+            }
+        }
+
+        int left = Math.max((int) Math.floor(dirtyLeft), 0);
+        int right = Math.min((int) Math.ceil(dirtyRight), width);
+
+        if (left < right) {
+
+            Matrix touch = mViewPortHandler.getMatrixTouch();
+            touch.getValues(mTileMatrixBuffer);
+
+            final float touchTransX = mTileMatrixBuffer[Matrix.MTRANS_X];
+
+            // render as if the chart was at the position of the bitmap
+            mTileMatrixBuffer[Matrix.MTRANS_X] = touchTransX + bitmapTransX - transX;
+            touch.setValues(mTileMatrixBuffer);
+
+            mRenderer.calcXBounds(this, mXAxis.mAxisLabelModulus);
+
+            if (!full) {
+
+                // the entries within the dirty strip, one more on each side
+                // to connect the lines
+                int from = getXIndexForXValue((content.left + left - bitmapTransX) / scaleX) - 1;
+                int to = getXIndexForXValue((content.left + right - bitmapTransX) / scaleX) + 2;
+
+                mRenderer.setXBounds(Math.max(from, 0), Math.min(to, (int) getXChartMax()));
+            }
+
+            mIncrementalCanvas.setBitmap(mIncrementalBitmap);
+
+            int restoreCount = mIncrementalCanvas.save();
+            mIncrementalCanvas.clipRect(left, 0, right, height);
+            mIncrementalCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            mIncrementalCanvas.translate(-content.left, -content.top);
+            mRenderer.drawData(mIncrementalCanvas);
+            mIncrementalCanvas.restoreToCount(restoreCount);
+
+            mTileMatrixBuffer[Matrix.MTRANS_X] = touchTransX;
+            touch.setValues(mTileMatrixBuffer);
+
+            mRenderer.calcXBounds(this, mXAxis.mAxisLabelModulus);
+        }
+
+        System.arraycopy(mIncrementalLeft, 0, mIncrementalLastLeft, 0, 9);
+        System.arraycopy(mIncrementalRight, 0, mIncrementalLastRight, 0, 9);
+        mIncrementalLastLeft[Matrix.MTRANS_X] = bitmapTransX;
+        mIncrementalLastRight[Matrix.MTRANS_X] += bitmapTransX - transX;
+
+        mIncrementalData = mData;
+        mIncrementalYValCount = yValCount;
+        mIncrementalLastXIndex = getLowestLastXIndex();
+        mIncrementalValid = true;
+
+        c.drawBitmap(mIncrementalBitmap, content.left + transX - bitmapTransX, content.top, null);
+    }
+
+    /**
+     * Returns true if both value-to-pixel matrices only differ in their
+     * x-translation.
+     *
+     * @param a
+     * @param b
+     * @return
+     */
+    private static boolean isSameScale(float[] a, float[] b) {
+        return a[Matrix.MSCALE_X] == b[Matrix.MSCALE_X] && a[Matrix.MSKEW_X] == b[Matrix.MSKEW_X]
+                && a[Matrix.MSCALE_Y] == b[Matrix.MSCALE_Y] && a[Matrix.MSKEW_Y] == b[Matrix.MSKEW_Y]
+                && a[Matrix.MTRANS_Y] == b[Matrix.MTRANS_Y];
+    }
+
+    /**
+     * Returns the lowest x-index of the last entries of all DataSets, new
+     * entries are appended after it.
+     *
+     * @return
+     */
+    private int getLowestLastXIndex() {
+
+        int lowest = Integer.MAX_VALUE;
+
+        for (int i = 0; i < mData.getDataSetCount(); i++) {
+
+            BarLineScatterCandleBubbleDataSet<? extends Entry> set = mData.getDataSetByIndex(i);
+
+            if (set.getEntryCount() > 0)
+                lowest = Math.min(lowest, set.getYVals().get(set.getEntryCount() - 1).getXIndex());
+        }
+
+        return lowest == Integer.MAX_VALUE ? 0 : lowest;
+    }
+
+    private void releaseIncrementalBitmaps() {
+
+        mIncrementalValid = false;
+
+        if (mIncrementalBitmap != null) {
+            mIncrementalBitmap.recycle();
+            mIncrementalBitmap = null;
+        }
+
+        if (mIncrementalSpareBitmap != null) {
+            mIncrementalSpareBitmap.recycle();
+            mIncrementalSpareBitmap = null;
+        }
+    }
+
+    /**
+     * Returns the value on the x-axis (before transformation) at which the
+     * entries with the given x-index start.
+     *
+     * @param xIndex
+     * @return
+     */
+    protected float getXValueForXIndex(int xIndex) {
+        return xIndex;
+    }
+
+    /**
+     * Returns the x-index of the entries located at the given value on the
+     * x-axis (before transformation).
+     *
+     * @param xValue
+     * @return
+     */
+    protected int getXIndexForXValue(float xValue) {
+        return (int) Math.floor(xValue);
+    }
+
+    /**
+     * Collects the state the cached layers depend on into the layer key:
+     * size, content rect and configuration version. The touch matrix is not
+     * part of it, the layers only contain what does not move with the
+     * viewport, so panning and zooming do not render them again.
+     */
+    private void calcLayerKey() {
+
+        RectF content = mViewPortHandler.getContentRect();
+
+        mLayerKey[0] = content.left;
+        mLayerKey[1] = content.top;
+        mLayerKey[2] = content.right;
+        mLayerKey[3] = content.bottom;
+        mLayerKey[4] = getWidth();
+        mLayerKey[5] = getHeight();
+        mLayerKey[6] = mLayerVersion;
+    }
+
     /**
      * draws the grid background
      */
@@ -1255,9 +1798,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public int getLowestVisibleXIndex() {
-        float[] pts = new float[]{
-                mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom()
-        };
+        float[] pts = mPointBuffer;
+        pts[0] = mViewPortHandler.contentLeft();
+        pts[1] = mViewPortHandler.contentBottom();
         getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
         return (pts[0] <= 0) ? 0 : (int) (pts[0] + 1);
     }
@@ -1270,9 +1813,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public int getHighestVisibleXIndex() {
-        float[] pts = new float[]{
-                mViewPortHandler.contentRight(), mViewPortHandler.contentBottom()
-        };
+        float[] pts = mPointBuffer;
+        pts[0] = mViewPortHandler.contentRight();
+        pts[1] = mViewPortHandler.contentBottom();
         getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
         return (pts[0] >= mData.getXValCount()) ? mData.getXValCount() - 1 : (int) pts[0];
     }
@@ -1383,6 +1926,171 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return mFilterData;
     }
 
+    /**
+     * Enables caching the rendered data in bitmap tiles of the size of the
+     * content area. While panning, the cached tiles are only drawn with a
+     * translation and just the newly exposed tiles are rendered. Tiles are
+     * evicted in least recently used order once they take more than the given
+     * amount of bytes. The cache is cleared by notifyDataSetChanged() and when
+     * the axis ranges change. If the styling of the data or single entries are
+     * modified without calling notifyDataSetChanged(), call invalidateTiles().
+     *
+     * @param maxBytes the maximum amount of memory the tiles may take, e.g. 8
+     *            * 1024 * 1024
+     */
+    public void enableTileCache(long maxBytes) {
+
+        if (mTileCache == null)
+            mTileCache = new TileCache(maxBytes);
+        else
+            mTileCache.setMaxBytes(maxBytes);
+    }
+
+    /**
+     * Disables the tile cache and releases all cached tiles.
+     */
+    public void disableTileCache() {
+
+        if (mTileCache != null) {
+            mTileCache.clear();
+            mTileCache = null;
+        }
+    }
+
+    /**
+     * Returns true if the rendered data is cached in bitmap tiles.
+     *
+     * @return
+     */
+    public boolean isTileCacheEnabled() {
+        return mTileCache != null;
+    }
+
+    /**
+     * Removes all cached tiles that display any of the x-indices between from
+     * and to (inclusive). Call this after entries in that range have been
+     * modified without calling notifyDataSetChanged().
+     *
+     * @param fromXIndex
+     * @param toXIndex
+     */
+    public void invalidateTiles(int fromXIndex, int toXIndex) {
+
+        if (mTileCache != null)
+            mTileCache.invalidate(fromXIndex, toXIndex);
+    }
+
+    /**
+     * Removes all cached tiles, e.g. after the styling of the data has been
+     * modified.
+     */
+    public void invalidateTiles() {
+
+        if (mTileCache != null)
+            mTileCache.clear();
+    }
+
+    /**
+     * If set to true, the parts of the chart that do not move with the
+     * viewport (grid background, axis lines and legend) are rendered into
+     * cached bitmap layers that are only rendered again if the size, the
+     * offsets or the data change, also not while panning or zooming. Grid
+     * lines, limit lines and axis labels are still drawn with every frame.
+     * After changing the styling of the cached parts without calling
+     * notifyDataSetChanged(), call invalidateLayers(). Default: false
+     *
+     * @param enabled
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+        mLayerCacheEnabled = enabled;
+
+        if (!enabled) {
+            mBehindDataLayer.release();
+            mLegendLayer.release();
+        }
+    }
+
+    /**
+     * Returns true if the static parts of the chart are cached in bitmap
+     * layers.
+     *
+     * @return
+     */
+    public boolean isLayerCacheEnabled() {
+        return mLayerCacheEnabled;
+    }
+
+    /**
+     * Forces the cached layers to be rendered again with the next draw, e.g.
+     * after the styling of an axis, the legend or the description has been
+     * modified.
+     */
+    public void invalidateLayers() {
+        mLayerVersion++;
+    }
+
+    /**
+     * If set to true, the data is not rendered again completely with every
+     * frame. Instead, the data of the previous frame is shifted by the
+     * distance the chart was moved (e.g. by moveViewToX(...) while following
+     * data appended in real-time) and only the newly exposed part and the
+     * last segments are rendered. Everything is rendered again if the zoom
+     * level or the y-axis range changes. Only appending entries is supported,
+     * call invalidateIncrementalDraw() after modifying existing entries or the
+     * styling of the data. Default: false
+     *
+     * @param enabled
+     */
+    public void setIncrementalDrawEnabled(boolean enabled) {
+        mIncrementalDrawEnabled = enabled;
+
+        if (!enabled)
+            releaseIncrementalBitmaps();
+    }
+
+    /**
+     * Returns true if the data is redrawn incrementally.
+     *
+     * @return
+     */
+    public boolean isIncrementalDrawEnabled() {
+        return mIncrementalDrawEnabled;
+    }
+
+    /**
+     * Forces the data to be rendered again completely with the next draw when
+     * incremental drawing is enabled.
+     */
+    public void invalidateIncrementalDraw() {
+        mIncrementalValid = false;
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+
+        // tiles, layers and incremental bitmaps are rendered again when needed
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            if (mTileCache != null)
+                mTileCache.clear();
+            mBehindDataLayer.release();
+            mLegendLayer.release();
+            releaseIncrementalBitmaps();
+        }
+
+        super.onTrimMemory(level);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        // release the tiles to avoid oom error
+        if (mTileCache != null)
+            mTileCache.clear();
+        mBehindDataLayer.release();
+        mLegendLayer.release();
+        releaseIncrementalBitmaps();
+        super.onDetachedFromWindow();
+    }
+
     /**
      * If set to true, both x and y axis can be scaled simultaneously with 2 fingers, if false,
      * x and y axis can be scaled separately. default: false
@@ -4,8 +4,11 @@ package com.github.mikephil.charting.charts;
 import android.animation.ValueAnimator;
 import android.animation.ValueAnimator.AnimatorUpdateListener;
 import android.annotation.SuppressLint;
+import android.content.ComponentCallbacks;
+import android.content.ComponentCallbacks2;
 import android.content.ContentValues;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Bitmap;
 import android.graphics.Bitmap.CompressFormat;
 import android.graphics.Canvas;
@@ -28,6 +31,7 @@ import android.view.ViewParent;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.animation.Easing;
 import com.github.mikephil.charting.animation.EasingFunction;
+import com.github.mikephil.charting.cache.BitmapPool;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.MarkerView;
 import com.github.mikephil.charting.data.ChartData;
@@ -169,6 +173,11 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
      */
     protected DataRenderer mRenderer;
 
+    /**
+     * if true, value-labels overlapping already drawn ones are skipped
+     */
+    protected boolean mValueLabelCullingEnabled = false;
+
     protected ChartHighlighter mHighlighter;
 
     /**
@@ -181,6 +190,12 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
      */
     protected ChartAnimator mAnimator;
 
+    /**
+     * forwards the memory callbacks of the application to onTrimMemory(...)
+     * while the chart is attached to a window, null before API level 14
+     */
+    private ComponentCallbacks mMemoryCallbacks = null;
+
     /**
      * Extra offsets to be appended to the viewport
      */
@@ -1045,6 +1060,17 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
         return mViewPortHandler.getContentCenter();
     }
 
+    /**
+     * Like getCenterOffsets(), but writes the center into the given PointF
+     * instead of creating a new one.
+     *
+     * @param outputPoint
+     * @return the given outputPoint
+     */
+    public PointF getCenterOffsets(PointF outputPoint) {
+        return mViewPortHandler.getContentCenter(outputPoint);
+    }
+
     /**
      * set a description text that appears in the bottom right corner of the
      * chart, size = Y-legend text size
@@ -1462,8 +1488,34 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
      */
     public void setRenderer(DataRenderer renderer) {
 
-        if (renderer != null)
+        if (renderer != null) {
             mRenderer = renderer;
+            mRenderer.setValueLabelCullingEnabled(mValueLabelCullingEnabled);
+        }
+    }
+
+    /**
+     * If set to true, value-labels that would overlap an already drawn
+     * value-label are skipped. This allows drawing values regardless of the
+     * maximum visible count, since crowded labels thin out by themselves.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setValueLabelCullingEnabled(boolean enabled) {
+        mValueLabelCullingEnabled = enabled;
+
+        if (mRenderer != null)
+            mRenderer.setValueLabelCullingEnabled(enabled);
+    }
+
+    /**
+     * Returns true if overlapping value-labels are skipped.
+     *
+     * @return
+     */
+    public boolean isValueLabelCullingEnabled() {
+        return mValueLabelCullingEnabled;
     }
 
     @Override
@@ -1703,6 +1755,61 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
         super.onSizeChanged(w, h, oldw, oldh);
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        if (android.os.Build.VERSION.SDK_INT < 14)
+            return;
+
+        if (mMemoryCallbacks == null) {
+            mMemoryCallbacks = new ComponentCallbacks2() {
+
+                @Override
+                public void onTrimMemory(int level) {
+                    Chart.this.onTrimMemory(level);
+                }
+
+                @Override
+                public void onLowMemory() {
+                    Chart.this.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+                }
+
+                @Override
+                public void onConfigurationChanged(Configuration newConfig) {
+                }
+            };
+        }
+
+        getContext().getApplicationContext().registerComponentCallbacks(mMemoryCallbacks);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+
+        if (mMemoryCallbacks != null)
+            getContext().getApplicationContext().unregisterComponentCallbacks(mMemoryCallbacks);
+
+        super.onDetachedFromWindow();
+    }
+
+    /**
+     * Called with the trim level of ComponentCallbacks2.onTrimMemory(...)
+     * while the chart is attached to a window (API level 14 and above). Once
+     * memory is critically low or the UI is hidden, the renderer releases
+     * its offscreen bitmaps. The unused bitmaps of the shared BitmapPool are
+     * trimmed in any case.
+     *
+     * @param level
+     */
+    public void onTrimMemory(int level) {
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL && mRenderer != null)
+            mRenderer.releaseBitmap();
+
+        BitmapPool.onTrimMemory(level);
+    }
+
     /**
      * Setting this to true will set the layer-type HARDWARE for the view, false
      * will set layer-type SOFTWARE.
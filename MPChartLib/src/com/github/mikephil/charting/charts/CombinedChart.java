@@ -114,6 +114,7 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Lin
         mRenderer = null;
         super.setData(data);
         mRenderer = new CombinedChartRenderer(this, mAnimator, mViewPortHandler);
+        mRenderer.setValueLabelCullingEnabled(mValueLabelCullingEnabled);
         mRenderer.initBuffers();
     }
 
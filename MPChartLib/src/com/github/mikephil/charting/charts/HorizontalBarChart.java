@@ -1,7 +1,7 @@
 package com.github.mikephil.charting.charts;
 
 import android.content.Context;
-import android.graphics.Matrix;
+import android.graphics.Canvas;
 import android.graphics.PointF;
 import android.graphics.RectF;
 import android.util.AttributeSet;
@@ -159,15 +159,19 @@ public class HorizontalBarChart extends BarChart {
 
 	@Override
 	protected void calcModulus() {
-		float[] values = new float[9];
-		mViewPortHandler.getMatrixTouch().getValues(values);
+
+		if (!isModulusOutdated(mViewPortHandler.getScaleY(),
+				mViewPortHandler.contentHeight(), mXAxis.mLabelRotatedHeight))
+			return;
 
 		mXAxis.mAxisLabelModulus =
 				(int) Math.ceil((mData.getXValCount() * mXAxis.mLabelRotatedHeight)
-				/ (mViewPortHandler.contentHeight() * values[Matrix.MSCALE_Y]));
+				/ (mViewPortHandler.contentHeight() * mViewPortHandler.getScaleY()));
 
 		if (mXAxis.mAxisLabelModulus < 1)
 			mXAxis.mAxisLabelModulus = 1;
+
+		mModulus = mXAxis.mAxisLabelModulus;
 	}
 
 	@Override
@@ -238,7 +242,9 @@ public class HorizontalBarChart extends BarChart {
 		float step = mData.getDataSetCount();
 		float div = (step <= 1) ? 1 : step + mData.getGroupSpace();
 
-		float[] pts = new float[] { mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom() };
+		float[] pts = mPointBuffer;
+		pts[0] = mViewPortHandler.contentLeft();
+		pts[1] = mViewPortHandler.contentBottom();
 
 		getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
 		return (int) (((pts[1] <= 0) ? 0 : ((pts[1])) / div) + 1);
@@ -255,9 +261,20 @@ public class HorizontalBarChart extends BarChart {
 		float step = mData.getDataSetCount();
 		float div = (step <= 1) ? 1 : step + mData.getGroupSpace();
 
-		float[] pts = new float[] { mViewPortHandler.contentLeft(), mViewPortHandler.contentTop() };
+		float[] pts = mPointBuffer;
+		pts[0] = mViewPortHandler.contentLeft();
+		pts[1] = mViewPortHandler.contentTop();
 
 		getTransformer(AxisDependency.LEFT).pixelsToValue(pts);
 		return (int) ((pts[1] >= getXChartMax()) ? getXChartMax() / div : (pts[1] / div));
 	}
+
+	/**
+	 * Appended bars grow downwards in this chart, the data is always rendered
+	 * completely.
+	 */
+	@Override
+	protected void drawDataIncremental(Canvas c) {
+		mRenderer.drawData(c);
+	}
 }
@@ -10,8 +10,8 @@ import com.github.mikephil.charting.renderer.ScatterChartRenderer;
 
 /**
  * The ScatterChart. Draws dots, triangles, squares and custom shapes into the
- * Chart-View. CIRCLE and SCQUARE offer the best performance, TRIANGLE has the
- * worst performance.
+ * Chart-View. Single-colored CIRCLE, SQUARE and CROSS shapes are drawn with one call
+ * per DataSet, all other shapes are stamped from pre-rendered bitmaps.
  * 
  * @author Philipp Jahoda
  */
@@ -71,4 +71,13 @@ public class ScatterChart extends BarLineChartBase<ScatterData> implements Scatt
     public ScatterData getScatterData() {
         return mData;
     };
+
+    @Override
+    protected void onDetachedFromWindow() {
+        // releases the pre-rendered shapes in the renderer
+        if (mRenderer != null && mRenderer instanceof ScatterChartRenderer) {
+            ((ScatterChartRenderer) mRenderer).releaseSprites();
+        }
+        super.onDetachedFromWindow();
+    }
 }
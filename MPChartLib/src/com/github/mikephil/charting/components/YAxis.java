@@ -7,6 +7,8 @@ import com.github.mikephil.charting.formatter.DefaultYAxisValueFormatter;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.formatter.YAxisValueFormatter;
 
+import java.util.Arrays;
+
 /**
  * Class representing the y-axis labels settings and its entries. Only use the setter methods to modify it. Do not
  * access public variables directly. Be aware that not all features the YLabels class provides are suitable for the
@@ -29,6 +31,18 @@ public class YAxis extends AxisBase {
 	/** the number of decimal digits to use */
 	public int mDecimals;
 
+	/** the range and label settings the entries were last computed for */
+	private float mEntriesMin = Float.NaN;
+	private float mEntriesMax = Float.NaN;
+	private int mEntriesLabelCount = -1;
+	private boolean mEntriesForced = false;
+	private boolean mEntriesOnlyMinMax = false;
+
+	/** cached formatted labels, with the entry values and the formatter they were formatted with */
+	private String[] mFormattedLabels = new String[0];
+	private float[] mFormattedValues = new float[0];
+	private YAxisValueFormatter mFormattedLabelsFormatter = null;
+
 	/** the number of y-label entries the y-labels should have, default 6 */
 	private int mLabelCount = 6;
 
@@ -358,8 +372,73 @@ public class YAxis extends AxisBase {
 
 		if (index < 0 || index >= mEntries.length)
 			return "";
-		else
-			return getValueFormatter().getFormattedValue(mEntries[index], this);
+
+		YAxisValueFormatter formatter = getValueFormatter();
+
+		if (mFormattedLabels.length != mEntries.length) {
+			mFormattedLabels = new String[mEntries.length];
+			mFormattedValues = new float[mEntries.length];
+		} else if (formatter != mFormattedLabelsFormatter) {
+			Arrays.fill(mFormattedLabels, null);
+		}
+
+		mFormattedLabelsFormatter = formatter;
+
+		float value = mEntries[index];
+		String label = mFormattedLabels[index];
+
+		// the label is reused as long as the entry keeps its value
+		if (label == null
+				|| Float.floatToIntBits(mFormattedValues[index]) != Float.floatToIntBits(value)) {
+
+			label = formatter.getFormattedValue(value, this);
+
+			mFormattedLabels[index] = label;
+			mFormattedValues[index] = value;
+		}
+
+		return label;
+	}
+
+	/**
+	 * Removes all cached formatted labels. Only needs to be called if the
+	 * formatter returns different labels for the same values than before
+	 * without being set again.
+	 */
+	public void invalidateFormattedLabels() {
+		Arrays.fill(mFormattedLabels, null);
+	}
+
+	/**
+	 * Returns true if the entries need to be computed for the given range,
+	 * because the range, the label count or the label flags changed since
+	 * they were last computed. Remembers the given range and settings.
+	 *
+	 * @param min
+	 * @param max
+	 * @return
+	 */
+	public boolean needsEntriesUpdate(float min, float max) {
+
+		if (min == mEntriesMin && max == mEntriesMax && mLabelCount == mEntriesLabelCount
+				&& mForceLabels == mEntriesForced && mShowOnlyMinMax == mEntriesOnlyMinMax)
+			return false;
+
+		mEntriesMin = min;
+		mEntriesMax = max;
+		mEntriesLabelCount = mLabelCount;
+		mEntriesForced = mForceLabels;
+		mEntriesOnlyMinMax = mShowOnlyMinMax;
+
+		return true;
+	}
+
+	/**
+	 * Forces the entries to be computed again the next time the axis is
+	 * computed.
+	 */
+	public void invalidateEntries() {
+		mEntriesLabelCount = -1;
 	}
 
 	/**
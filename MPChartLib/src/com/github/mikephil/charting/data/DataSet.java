@@ -6,12 +6,15 @@ import android.graphics.Color;
 import android.graphics.Typeface;
 
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.data.filter.DataPyramid;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.formatter.ValueFormatter;
+import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -92,7 +95,7 @@ public abstract class DataSet<T extends Entry> {
     /**
      * custom formatter that is used instead of the auto-formatter if set
      */
-    protected transient ValueFormatter mValueFormatter;
+    protected ValueFormatter mValueFormatter;
 
     /**
      * this specifies which axis this DataSet should be plotted against
@@ -104,6 +107,60 @@ public abstract class DataSet<T extends Entry> {
      */
     protected boolean mHighlightEnabled = true;
 
+    /**
+     * pre-aggregated levels of the entries used for drawing large DataSets,
+     * null if not enabled
+     */
+    protected DataPyramid mPyramid = null;
+
+    /**
+     * if true, the pyramid is rebuilt on a background thread
+     */
+    private boolean mBuildPyramidInBackground = false;
+
+    /**
+     * called after the pyramid has been built in the background
+     */
+    private Runnable mPyramidBuiltCallback = null;
+
+    /**
+     * incremented whenever the entries of this DataSet change, used to
+     * invalidate data derived from the entries
+     */
+    protected int mDataVersion = 0;
+
+    /**
+     * if true, the formatted value-labels are cached
+     */
+    private boolean mValueLabelCacheEnabled = false;
+
+    /**
+     * the cached value-labels, in slots picked by entry index (index modulo
+     * the number of slots), together with the entry index, entry and value
+     * they were formatted for and the lookup they were last used in, null
+     * until values are drawn
+     */
+    private String[] mValueLabels = null;
+    private int[] mValueLabelIndices = null;
+    private Entry[] mValueLabelEntries = null;
+    private float[] mValueLabelValues = null;
+    private int[] mValueLabelUses = null;
+
+    /** the maximum number of slots of the value-label cache */
+    private static final int MAX_VALUE_LABEL_SLOTS = 4096;
+
+    /** counts the lookups in the value-label cache */
+    private int mValueLabelUseCount = 0;
+
+    /**
+     * the state all cached value-labels were formatted with
+     */
+    private ValueFormatter mValueLabelFormatter = null;
+    private int mValueLabelDataVersion = -1;
+    private int mValueLabelDataSetIndex = -1;
+    private float mValueLabelScaleX = Float.NaN;
+    private float mValueLabelScaleY = Float.NaN;
+
     /**
      * Creates a new DataSet object with the given values it represents. Also, a
      * label that describes the DataSet can be specified. The label can also be
@@ -133,8 +190,10 @@ public abstract class DataSet<T extends Entry> {
      * Use this method to tell the data set that the underlying data has changed
      */
     public void notifyDataSetChanged() {
+        mDataVersion++;
         calcMinMax(mLastStart, mLastEnd);
         calcYValueSum();
+        rebuildPyramid();
     }
 
     /**
@@ -529,9 +588,13 @@ public abstract class DataSet<T extends Entry> {
         }
 
         mYValueSum += val;
+        mDataVersion++;
 
         // add the entry
         mYVals.add((T) e);
+
+        if (mPyramid != null)
+            mPyramid.append(e.getXIndex(), val);
     }
 
     /**
@@ -565,16 +628,21 @@ public abstract class DataSet<T extends Entry> {
         }
 
         mYValueSum += val;
+        mDataVersion++;
 
         if (mYVals.size() > 0 && mYVals.get(mYVals.size() - 1).getXIndex() > e.getXIndex()) {
             int closestIndex = getEntryIndex(e.getXIndex());
             if (mYVals.get(closestIndex).getXIndex() < e.getXIndex())
                 closestIndex++;
             mYVals.add(closestIndex, (T) e);
+            rebuildPyramid();
             return;
         }
 
         mYVals.add((T) e);
+
+        if (mPyramid != null)
+            mPyramid.append(e.getXIndex(), val);
     }
 
     /**
@@ -590,18 +658,28 @@ public abstract class DataSet<T extends Entry> {
         if (e == null)
             return false;
 
-        // remove the entry
-        boolean removed = mYVals.remove(e);
+        int index = mYVals.indexOf(e);
 
-        if (removed) {
+        if (index < 0)
+            return false;
 
-            float val = e.getVal();
-            mYValueSum -= val;
+        // the ends are removed incrementally from the pyramid
+        if (index == 0)
+            return removeFirst();
+        if (index == mYVals.size() - 1)
+            return removeLast();
 
-            calcMinMax(mLastStart, mLastEnd);
-        }
+        // remove the entry
+        mYVals.remove(index);
 
-        return removed;
+        float val = e.getVal();
+        mYValueSum -= val;
+        mDataVersion++;
+
+        calcMinMax(mLastStart, mLastEnd);
+        rebuildPyramid();
+
+        return true;
     }
 
     /**
@@ -632,8 +710,11 @@ public abstract class DataSet<T extends Entry> {
 
             float val = entry.getVal();
             mYValueSum -= val;
+            mDataVersion++;
 
             calcMinMax(mLastStart, mLastEnd);
+            if (mPyramid != null)
+                mPyramid.removeFirst();
         }
 
         return removed;
@@ -658,13 +739,99 @@ public abstract class DataSet<T extends Entry> {
 
             float val = entry.getVal();
             mYValueSum -= val;
+            mDataVersion++;
 
             calcMinMax(mLastStart, mLastEnd);
+            if (mPyramid != null)
+                mPyramid.removeLast();
         }
 
         return removed;
     }
 
+    /**
+     * Enables the multi-resolution pyramid for this DataSet. The pyramid holds
+     * pre-aggregated levels of the entries (min, max, first, last and average
+     * of "factor", factor^2, ... consecutive entries). Renderers that support
+     * it draw the level matching the currently visible range instead of all
+     * entries, which makes zoomed out DataSets with millions of entries fast
+     * to draw. The pyramid is updated incrementally by addEntry(...),
+     * removeFirst() and removeLast(), all other modifications cause a
+     * rebuild. Only worth enabling for large DataSets.
+     *
+     * @param factor the number of entries (or lower level buckets) aggregated
+     *            into one bucket, usually 4 or 16
+     */
+    public void enablePyramid(int factor) {
+        disablePyramid();
+        mPyramid = new DataPyramid(factor);
+        mBuildPyramidInBackground = false;
+        mPyramidBuiltCallback = null;
+        mPyramid.build(mYVals);
+    }
+
+    /**
+     * Enables the multi-resolution pyramid for this DataSet like
+     * enablePyramid(int), but builds it (and rebuilds it after modifications)
+     * on a background thread. Until a build is finished, all entries are
+     * drawn.
+     *
+     * @param factor the number of entries (or lower level buckets) aggregated
+     *            into one bucket, usually 4 or 16
+     * @param onBuilt called on the background thread after every build, e.g.
+     *            to call postInvalidate() on the chart, may be null
+     */
+    public void enablePyramidInBackground(int factor, Runnable onBuilt) {
+        disablePyramid();
+        mPyramid = new DataPyramid(factor);
+        mBuildPyramidInBackground = true;
+        mPyramidBuiltCallback = onBuilt;
+        mPyramid.buildInBackground(mYVals, onBuilt);
+    }
+
+    /**
+     * Disables the multi-resolution pyramid and releases its memory.
+     */
+    public void disablePyramid() {
+        if (mPyramid != null)
+            mPyramid.clear();
+        mPyramid = null;
+    }
+
+    /**
+     * Returns true if the multi-resolution pyramid is enabled for this
+     * DataSet.
+     *
+     * @return
+     */
+    public boolean isPyramidEnabled() {
+        return mPyramid != null;
+    }
+
+    /**
+     * Returns the multi-resolution pyramid of this DataSet, or null if it is
+     * not enabled.
+     *
+     * @return
+     */
+    public DataPyramid getPyramid() {
+        return mPyramid;
+    }
+
+    /**
+     * Rebuilds the pyramid (if enabled) after the entries have been modified.
+     */
+    protected void rebuildPyramid() {
+
+        if (mPyramid == null)
+            return;
+
+        if (mBuildPyramidInBackground)
+            mPyramid.buildInBackground(mYVals, mPyramidBuiltCallback);
+        else
+            mPyramid.build(mYVals);
+    }
+
     /** BELOW THIS COLOR HANDLING */
 
     /**
@@ -852,6 +1019,130 @@ public abstract class DataSet<T extends Entry> {
         return false;
     }
 
+    /**
+     * Returns the formatted value-label of the entry at the given index. If
+     * the cache is enabled, the labels of the recently drawn entries are
+     * cached and only formatted again if the entries of this DataSet (see
+     * getDataVersion()), the entry, its value, the formatter or the scale of
+     * the chart changed. Pass -1 as index to bypass the cache
+     * (e.g. for values of stacked entries).
+     *
+     * @param index the index of the entry in this DataSet
+     * @param value the value that is formatted
+     * @param e
+     * @param dataSetIndex
+     * @param viewPortHandler
+     * @return
+     */
+    public String getFormattedValue(int index, float value, Entry e, int dataSetIndex,
+                                    ViewPortHandler viewPortHandler) {
+
+        if (!mValueLabelCacheEnabled || index < 0)
+            return getValueFormatter().getFormattedValue(value, e, dataSetIndex, viewPortHandler);
+
+        // the default formatter is created with every call, don't compare it
+        ValueFormatter formatter = mValueFormatter;
+
+        float scaleX = viewPortHandler != null ? viewPortHandler.getScaleX() : 1f;
+        float scaleY = viewPortHandler != null ? viewPortHandler.getScaleY() : 1f;
+
+        if (mValueLabels == null) {
+            allocateValueLabelCache(64);
+        } else if (mValueLabelDataVersion != mDataVersion || mValueLabelFormatter != formatter
+                || mValueLabelDataSetIndex != dataSetIndex || mValueLabelScaleX != scaleX
+                || mValueLabelScaleY != scaleY) {
+            Arrays.fill(mValueLabels, null);
+            Arrays.fill(mValueLabelEntries, null);
+        }
+
+        mValueLabelDataVersion = mDataVersion;
+        mValueLabelFormatter = formatter;
+        mValueLabelDataSetIndex = dataSetIndex;
+        mValueLabelScaleX = scaleX;
+        mValueLabelScaleY = scaleY;
+
+        int use = ++mValueLabelUseCount;
+        int slot = index & (mValueLabels.length - 1);
+
+        String label = mValueLabels[slot];
+
+        if (label != null && mValueLabelIndices[slot] == index && mValueLabelEntries[slot] == e
+                && mValueLabelValues[slot] == value) {
+
+            mValueLabelUses[slot] = use;
+            return label;
+        }
+
+        // the slot was used recently by another entry, more labels are drawn
+        // than the cache can hold
+        if (label != null && mValueLabelIndices[slot] != index
+                && use - mValueLabelUses[slot] <= mValueLabels.length
+                && mValueLabels.length < MAX_VALUE_LABEL_SLOTS) {
+
+            allocateValueLabelCache(mValueLabels.length * 2);
+            slot = index & (mValueLabels.length - 1);
+        }
+
+        label = getValueFormatter().getFormattedValue(value, e, dataSetIndex, viewPortHandler);
+
+        mValueLabels[slot] = label;
+        mValueLabelIndices[slot] = index;
+        mValueLabelEntries[slot] = e;
+        mValueLabelValues[slot] = value;
+        mValueLabelUses[slot] = use;
+
+        return label;
+    }
+
+    /**
+     * Replaces the value-label cache by an empty one with the given number of
+     * slots (a power of two).
+     *
+     * @param slots
+     */
+    private void allocateValueLabelCache(int slots) {
+        mValueLabels = new String[slots];
+        mValueLabelIndices = new int[slots];
+        mValueLabelEntries = new Entry[slots];
+        mValueLabelValues = new float[slots];
+        mValueLabelUses = new int[slots];
+    }
+
+    /**
+     * If set to true, the formatted value-labels are cached and reused across
+     * frames. The cache is cleared when the entries of this DataSet, the
+     * formatter or the scale of the chart change. Only enable this if the formatter of this DataSet
+     * produces the same label for the same entry and value otherwise.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setValueLabelCacheEnabled(boolean enabled) {
+        mValueLabelCacheEnabled = enabled;
+        clearValueLabelCache();
+    }
+
+    /**
+     * Returns true if the formatted value-labels are cached.
+     *
+     * @return
+     */
+    public boolean isValueLabelCacheEnabled() {
+        return mValueLabelCacheEnabled;
+    }
+
+    /**
+     * Removes all cached value-labels, e.g. after the state the formatter
+     * depends on changed.
+     */
+    public void clearValueLabelCache() {
+        mValueLabels = null;
+        mValueLabelIndices = null;
+        mValueLabelEntries = null;
+        mValueLabelValues = null;
+        mValueLabelUses = null;
+    }
+
     /**
      * Sets the color the value-labels of this DataSet should have.
      *
@@ -914,6 +1205,16 @@ public abstract class DataSet<T extends Entry> {
         return false;
     }
 
+    /**
+     * Returns the version of the entries of this DataSet. It changes whenever
+     * entries are added or removed, or notifyDataSetChanged() is called.
+     *
+     * @return
+     */
+    public int getDataVersion() {
+        return mDataVersion;
+    }
+
     /**
      * Removes all values from this DataSet and recalculates min and max value.
      */
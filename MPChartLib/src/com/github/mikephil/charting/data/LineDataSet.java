@@ -41,6 +41,25 @@ public class LineDataSet extends LineRadarDataSet<Entry> {
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * the values (ascending) at which the colors of the line gradient are
+     * located, null if the line is not colored by value
+     */
+    private float[] mGradientValues = null;
+
+    /** the colors of the line gradient at the gradient values */
+    private int[] mGradientColors = null;
+
+    /** top and bottom color of the fill gradient, null if not used */
+    private int[] mFillGradientColors = null;
+
+    /** the cubics ending at each entry, see getCubicPoints() */
+    private float[] mCubicPoints = null;
+
+    /** data version and intensity the cubics were calculated for */
+    private int mCubicPointsVersion = -1;
+    private float mCubicPointsIntensity = 0f;
+
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
 
@@ -72,6 +91,9 @@ public class LineDataSet extends LineRadarDataSet<Entry> {
         copied.mDrawCircles = mDrawCircles;
         copied.mDrawCubic = mDrawCubic;
         copied.mHighLightColor = mHighLightColor;
+        copied.mGradientValues = mGradientValues;
+        copied.mGradientColors = mGradientColors;
+        copied.mFillGradientColors = mFillGradientColors;
 
         return copied;
     }
@@ -335,4 +357,174 @@ public class LineDataSet extends LineRadarDataSet<Entry> {
     public FillFormatter getFillFormatter() {
         return mFillFormatter;
     }
+
+    /**
+     * Colors the line by its values (y-axis) instead of using the colors of
+     * the DataSet. The color changes continuously between the given values,
+     * repeating a value creates a hard step (e.g. for threshold bands). Above
+     * the highest and below the lowest value, the colors of these values are
+     * used. The line is drawn with one gradient shader, which is much faster
+     * than setting one color per line-segment.
+     *
+     * @param values the values at which the colors are located, in
+     *            ascending order
+     * @param colors the colors at these values
+     */
+    public void setGradientColors(float[] values, int[] colors) {
+
+        if (values.length != colors.length || values.length < 2)
+            throw new IllegalArgumentException(
+                    "There need to be at least two values and as many colors as values.");
+
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1])
+                throw new IllegalArgumentException("The values need to be in ascending order.");
+        }
+
+        mGradientValues = values.clone();
+        mGradientColors = colors.clone();
+    }
+
+    /**
+     * Colors the line with one color above and another color below the given
+     * threshold value.
+     *
+     * @param threshold
+     * @param colorBelow
+     * @param colorAbove
+     */
+    public void setThresholdColors(float threshold, int colorBelow, int colorAbove) {
+        setGradientColors(new float[] {
+                threshold, threshold
+        }, new int[] {
+                colorBelow, colorAbove
+        });
+    }
+
+    /**
+     * Disables coloring the line by its values, the colors of the DataSet are
+     * used again.
+     */
+    public void disableGradientColors() {
+        mGradientValues = null;
+        mGradientColors = null;
+    }
+
+    /**
+     * Returns true if the line is colored by its values.
+     *
+     * @return
+     */
+    public boolean isGradientColorsEnabled() {
+        return mGradientValues != null;
+    }
+
+    /**
+     * Returns the values at which the colors of the line gradient are
+     * located, null if disabled.
+     *
+     * @return
+     */
+    public float[] getGradientValues() {
+        return mGradientValues;
+    }
+
+    /**
+     * Returns the colors of the line gradient, null if disabled.
+     *
+     * @return
+     */
+    public int[] getGradientColors() {
+        return mGradientColors;
+    }
+
+    /**
+     * Fills the surface below the line with a vertical gradient from the top
+     * to the bottom of the chart's content area instead of the fill color.
+     * The fill alpha is still applied.
+     *
+     * @param colorTop
+     * @param colorBottom
+     */
+    public void setFillGradient(int colorTop, int colorBottom) {
+        mFillGradientColors = new int[] {
+                colorTop, colorBottom
+        };
+    }
+
+    /**
+     * Disables the fill gradient, the fill color is used again.
+     */
+    public void disableFillGradient() {
+        mFillGradientColors = null;
+    }
+
+    /**
+     * Returns true if the surface below the line is filled with a gradient.
+     *
+     * @return
+     */
+    public boolean isFillGradientEnabled() {
+        return mFillGradientColors != null;
+    }
+
+    /**
+     * Returns the top and bottom color of the fill gradient, null if
+     * disabled.
+     *
+     * @return
+     */
+    public int[] getFillGradientColors() {
+        return mFillGradientColors;
+    }
+
+    /**
+     * Returns the control points and end points of the cubics of the spline
+     * through all entries (in values, not multiplied with any animation
+     * phase). The cubic ending at the entry at position i is located at
+     * index i * 6, order: c1x, c1y, c2x, c2y, x, y. The points are only
+     * calculated again if the entries or the cubic intensity changed.
+     *
+     * @return
+     */
+    public float[] getCubicPoints() {
+
+        if (mCubicPoints != null && mCubicPointsVersion == mDataVersion
+                && mCubicPointsIntensity == mCubicIntensity)
+            return mCubicPoints;
+
+        int size = mYVals.size();
+
+        if (mCubicPoints == null || mCubicPoints.length < size * 6)
+            mCubicPoints = new float[size * 6];
+
+        float[] points = mCubicPoints;
+        float intensity = mCubicIntensity;
+
+        for (int j = 1; j < size; j++) {
+
+            Entry prevPrev = mYVals.get(Math.max(j - 2, 0));
+            Entry prev = mYVals.get(j - 1);
+            Entry cur = mYVals.get(j);
+            Entry next = mYVals.get(Math.min(j + 1, size - 1));
+
+            float prevDx = (cur.getXIndex() - prevPrev.getXIndex()) * intensity;
+            float prevDy = (cur.getVal() - prevPrev.getVal()) * intensity;
+            float curDx = (next.getXIndex() - prev.getXIndex()) * intensity;
+            float curDy = (next.getVal() - prev.getVal()) * intensity;
+
+            int i = j * 6;
+            points[i] = prev.getXIndex() + prevDx;
+            points[i + 1] = prev.getVal() + prevDy;
+            points[i + 2] = cur.getXIndex() - curDx;
+            points[i + 3] = cur.getVal() - curDy;
+            points[i + 4] = cur.getXIndex();
+            points[i + 5] = cur.getVal();
+        }
+
+        mCubicPointsVersion = mDataVersion;
+        mCubicPointsIntensity = mCubicIntensity;
+
+        return points;
+    }
 }
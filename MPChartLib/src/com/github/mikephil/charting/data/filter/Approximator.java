@@ -23,15 +23,26 @@ public class Approximator {
     private float mScaleRatio = 1f;
     private float mDeltaRatio = 1f;
 
+    /** reusable buffers holding the x- and y-values of the entries to filter */
+    private float[] mXBuffer = new float[0];
+    private float[] mYBuffer = new float[0];
+
+    /** reusable buffer the indices of the kept entries are written to */
+    private int[] mIndexBuffer = new int[0];
+
     /**
-     * array that contains "true" on all indices that will be kept after
-     * filtering
+     * explicit stack of (start, end) index pairs that replaces the recursion
+     * of the Douglas-Peucker algorithm
      */
-    private boolean[] keep;
+    private int[] mStack = new int[64];
 
-    /** enums for the different types of filtering algorithms */
+    /**
+     * enums for the different types of filtering algorithms, DOUGLAS_PEUCKER
+     * compares the angles of the points to the segment, DOUGLAS_PEUCKER_DISTANCE
+     * their perpendicular distances
+     */
     public enum ApproximatorType {
-        NONE, DOUGLAS_PEUCKER
+        NONE, DOUGLAS_PEUCKER, DOUGLAS_PEUCKER_DISTANCE, LTTB
     }
 
     /**
@@ -65,7 +76,13 @@ public class Approximator {
     /**
      * sets the tolerance for the Approximator. When using the
      * Douglas-Peucker-Algorithm, the tolerance is an angle in degrees, that
-     * will trigger the filtering.
+     * will trigger the filtering: with DOUGLAS_PEUCKER, a point is kept if the
+     * angle between the line segment it is approximated by and the line from
+     * the start of that segment to the point exceeds the tolerance. With
+     * DOUGLAS_PEUCKER_DISTANCE, a point is kept if its distance to the line
+     * segment exceeds tan(tolerance) times the length of that segment. When
+     * using LTTB (Largest-Triangle-Three-Buckets), the tolerance is the number
+     * of points the filtered data will consist of.
      */
     public void setTolerance(double tolerance) {
         mTolerance = tolerance;
@@ -103,104 +120,409 @@ public class Approximator {
     }
 
     /**
-     * Filters according to type.
+     * Filters according to type. The returned List contains the kept Entry
+     * objects themselves, no copies are made.
      * 
      * @param points the points to filter
      * @param tolerance the angle in degrees that will trigger the filtering
+     *            (DOUGLAS_PEUCKER), or the number of points to keep (LTTB)
      * @return
      */
     public List<Entry> filter(List<Entry> points, double tolerance) {
 
-        if (tolerance <= 0)
+        if (tolerance <= 0 || mType == ApproximatorType.NONE)
+            return points;
+
+        final int count = points.size();
+
+        if (mXBuffer.length < count) {
+            mXBuffer = new float[count];
+            mYBuffer = new float[count];
+        }
+
+        for (int i = 0; i < count; i++) {
+            Entry e = points.get(i);
+            mXBuffer[i] = e.getXIndex();
+            mYBuffer[i] = e.getVal();
+        }
+
+        if (mIndexBuffer.length < count)
+            mIndexBuffer = new int[count];
+
+        int kept = reduce(mXBuffer, mYBuffer, count, tolerance, mIndexBuffer);
+
+        if (kept == count)
             return points;
 
-        keep = new boolean[points.size()];
+        List<Entry> reducedEntries = new ArrayList<Entry>(kept);
+        for (int i = 0; i < kept; i++)
+            reducedEntries.add(points.get(mIndexBuffer[i]));
+
+        return reducedEntries;
+    }
+
+    /**
+     * Filters the given points according to type and writes the indices of
+     * the kept points (in ascending order) into the provided array. The
+     * x-values must be sorted ascending. This method does not allocate as long
+     * as the provided arrays are reused. Returns the number of kept points.
+     * 
+     * @param xVals the x-values of the points
+     * @param yVals the y-values of the points
+     * @param count the number of points to filter
+     * @param tolerance the angle in degrees that will trigger the filtering
+     *            (DOUGLAS_PEUCKER and DOUGLAS_PEUCKER_DISTANCE), or the number
+     *            of points to keep (LTTB)
+     * @param outIndices array the kept indices are written to, needs to have
+     *            room for "count" indices, or for min(count, tolerance)
+     *            indices with LTTB
+     * @return
+     */
+    public int reduce(float[] xVals, float[] yVals, int count, double tolerance,
+            int[] outIndices) {
 
         switch (mType) {
             case DOUGLAS_PEUCKER:
-                return reduceWithDouglasPeuker(points, tolerance);
-            case NONE:
-                return points;
+                if (tolerance > 0)
+                    return reduceWithDouglasPeucker(xVals, yVals, count, tolerance, false,
+                            outIndices);
+                break;
+            case DOUGLAS_PEUCKER_DISTANCE:
+                if (tolerance > 0)
+                    return reduceWithDouglasPeucker(xVals, yVals, count, tolerance, true,
+                            outIndices);
+                break;
+            case LTTB:
+                if (tolerance > 0)
+                    return reduceWithLTTB(xVals, yVals, count, (int) tolerance, outIndices);
+                break;
             default:
-                return points;
+                break;
         }
+
+        for (int i = 0; i < count; i++)
+            outIndices[i] = i;
+
+        return count;
     }
 
     /**
-     * uses the douglas peuker algorithm to reduce the given List of
-     * entries
+     * Uses the douglas peucker algorithm to reduce the given points. Each
+     * segment is split at the point with the greatest angle to the segment
+     * or, if byDistance is set, at the point with the greatest perpendicular
+     * distance to it, which keeps the segments balanced. Instead of recursing,
+     * the segments that still need to be processed are kept on an explicit
+     * stack. The left segment is always processed first, which means the kept
+     * indices are emitted in ascending order.
      * 
-     * @param entries
-     * @param epsilon
+     * @param xVals
+     * @param yVals
+     * @param count
+     * @param epsilon the angle in degrees
+     * @param byDistance
+     * @param outIndices
      * @return
      */
-    private List<Entry> reduceWithDouglasPeuker(List<Entry> entries, double epsilon) {
+    private int reduceWithDouglasPeucker(float[] xVals, float[] yVals, int count,
+            double epsilon, boolean byDistance, int[] outIndices) {
+
         // if a shape has 2 or less points it cannot be reduced
-        if (epsilon <= 0 || entries.size() < 3) {
-            return entries;
+        if (count < 3) {
+            for (int i = 0; i < count; i++)
+                outIndices[i] = i;
+            return count;
         }
 
-        // first and last always stay
-        keep[0] = true;
-        keep[entries.size() - 1] = true;
+        // a point is kept if its perpendicular distance to the segment exceeds
+        // tan(epsilon) times the segment length, compared via the cross
+        // product so that neither atan nor sqrt is needed per point
+        final double limit = epsilon >= 90.0 ? Double.MAX_VALUE : Math.tan(Math
+                .toRadians(epsilon));
+
+        // the angle tolerance as a value comparable to angleDifference(...)
+        final double epsilonDiff = epsilon >= 360.0 ? 4.0 : epsilon == 180.0 ? 2.0
+                : epsilon > 180.0
+                ? 4.0 - pseudoAngle(Math.cos(Math.toRadians(epsilon)),
+                        -Math.sin(Math.toRadians(epsilon)))
+                : pseudoAngle(Math.cos(Math.toRadians(epsilon)),
+                        Math.sin(Math.toRadians(epsilon)));
+
+        final float deltaRatio = mDeltaRatio;
+        final float scaleRatio = mScaleRatio;
+
+        int kept = 0;
+        int top = 0;
+
+        // first and last entry are the initial segment
+        mStack[top++] = 0;
+        mStack[top++] = count - 1;
+
+        while (top > 0) {
+
+            final int end = mStack[--top];
+            final int start = mStack[--top];
+
+            int maxIndex = -1;
+
+            if (end > start + 1 && !byDistance) {
+
+                final float startX = xVals[start] * deltaRatio;
+                final float startY = yVals[start] * scaleRatio;
+
+                double sx = xVals[end] * deltaRatio - startX;
+                double sy = yVals[end] * scaleRatio - startY;
+
+                // atan2(0, 0) is 0, the direction of the positive x-axis
+                if (sx == 0 && sy == 0)
+                    sx = 1;
+
+                final double segmentAngle = pseudoAngle(sx, sy);
+
+                // the greatest angle difference belongs to the point with
+                // either the greatest or the smallest angle, the pseudo-angle
+                // orders the points like atan2 without any trigonometry
+                double maxPseudo = Double.NEGATIVE_INFINITY;
+                double minPseudo = Double.POSITIVE_INFINITY;
+                int maxPseudoIndex = -1;
+                int minPseudoIndex = -1;
+
+                for (int i = start + 1; i < end; i++) {
+
+                    double pseudo = pseudoAngle(xVals[i] * deltaRatio - startX,
+                            yVals[i] * scaleRatio - startY);
+
+                    if (pseudo > maxPseudo) {
+                        maxPseudo = pseudo;
+                        maxPseudoIndex = i;
+                    }
+
+                    if (pseudo < minPseudo) {
+                        minPseudo = pseudo;
+                        minPseudoIndex = i;
+                    }
+                }
+
+                double maxDiff = angleDifference(sx, sy, segmentAngle,
+                        xVals[maxPseudoIndex] * deltaRatio - startX,
+                        yVals[maxPseudoIndex] * scaleRatio - startY, maxPseudo);
+                double minDiff = angleDifference(sx, sy, segmentAngle,
+                        xVals[minPseudoIndex] * deltaRatio - startX,
+                        yVals[minPseudoIndex] * scaleRatio - startY, minPseudo);
+
+                // on equal differences the lower index wins, like in a scan
+                if (maxDiff > minDiff
+                        || (maxDiff == minDiff && maxPseudoIndex < minPseudoIndex)) {
+                    if (maxDiff > epsilonDiff)
+                        maxIndex = maxPseudoIndex;
+                } else if (minDiff > epsilonDiff) {
+                    maxIndex = minPseudoIndex;
+                }
+
+            } else if (end > start + 1) {
+
+                final float startX = xVals[start];
+                final float startY = yVals[start];
+
+                final double ax = (xVals[end] - startX) * deltaRatio;
+                final double ay = (yVals[end] - startY) * scaleRatio;
+
+                // ratios folded into the factors of the cross product
+                final double factorY = ax * scaleRatio;
+                final double factorX = ay * deltaRatio;
+
+                // find the point with the greatest distance to the segment
+                double maxCross = limit * (ax * ax + ay * ay);
 
-        // first and last entry are entry point to recursion
-        algorithmDouglasPeucker(entries, epsilon, 0, entries.size() - 1);
+                for (int i = start + 1; i < end; i++) {
 
-        // create a new array with series, only take the kept ones
-        List<Entry> reducedEntries = new ArrayList<Entry>();
-        for (int i = 0; i < entries.size(); i++) {
-            if (keep[i]) {
-                Entry curEntry = entries.get(i);
-                reducedEntries.add(new Entry(curEntry.getVal(), curEntry.getXIndex()));
+                    double cross = Math.abs(factorY * (yVals[i] - startY)
+                            - factorX * (xVals[i] - startX));
+
+                    if (cross > maxCross) {
+                        maxCross = cross;
+                        maxIndex = i;
+                    }
+                }
+            }
+
+            if (maxIndex != -1) {
+
+                if (top + 4 > mStack.length) {
+                    int[] stack = new int[mStack.length * 2];
+                    System.arraycopy(mStack, 0, stack, 0, top);
+                    mStack = stack;
+                }
+
+                // right segment first, so that the left one is popped next
+                mStack[top++] = maxIndex;
+                mStack[top++] = end;
+                mStack[top++] = start;
+                mStack[top++] = maxIndex;
+            } else {
+                // the segment is final, its start point is kept
+                outIndices[kept++] = start;
             }
         }
-        return reducedEntries;
+
+        // last always stays
+        outIndices[kept++] = count - 1;
+
+        return kept;
     }
 
     /**
-     * apply the Douglas-Peucker-Reduction to an List of Entry with a given
-     * epsilon (tolerance)
+     * Returns a value that is ordered like atan2(y, x), but without any
+     * trigonometry: -2 for an angle of -180 degrees, -1 for -90 degrees, 0
+     * for 0 degrees (and for the zero vector), 1 for 90 and 2 for 180 degrees.
      * 
-     * @param entries
-     * @param epsilon as y-value
-     * @param start
-     * @param end
+     * @param x
+     * @param y
+     * @return
      */
-    private void algorithmDouglasPeucker(List<Entry> entries, double epsilon, int start,
-            int end) {
-        if (end <= start + 1) {
-            // recursion finished
-            return;
+    private static double pseudoAngle(double x, double y) {
+
+        final double sum = Math.abs(x) + Math.abs(y);
+
+        if (sum == 0)
+            return 0;
+
+        final double q = y / sum;
+
+        if (x >= 0)
+            return q;
+
+        return y >= 0 ? 2.0 - q : -2.0 - q;
+    }
+
+    /**
+     * Returns a value that is ordered like the absolute difference of the
+     * angles (in the range of atan2) of the segment s and the vector p:
+     * 0 for no difference, 2 for 180 degrees and up to 4 for 360 degrees. The
+     * pseudo-angles of both need to be provided.
+     * 
+     * @param sx
+     * @param sy
+     * @param sPseudo
+     * @param px
+     * @param py
+     * @param pPseudo
+     * @return
+     */
+    private static double angleDifference(double sx, double sy, double sPseudo,
+            double px, double py, double pPseudo) {
+
+        if (pPseudo == sPseudo)
+            return 0;
+
+        // atan2(0, 0) is 0, the direction of the positive x-axis
+        if (px == 0 && py == 0)
+            px = 1;
+
+        // p relative to s, its angle is the difference wrapped to (-180, 180]
+        final double dot = sx * px + sy * py;
+        final double cross = sx * py - sy * px;
+
+        final double wrapped = pseudoAngle(dot, Math.abs(cross));
+
+        // the plain difference of two atan2 angles is not wrapped, it exceeds
+        // 180 degrees if p lies on the other side of the negative x-axis
+        if (pPseudo > sPseudo ? cross < 0 : cross > 0)
+            return 4.0 - wrapped;
+
+        return wrapped;
+    }
+
+    /**
+     * Uses the Largest-Triangle-Three-Buckets algorithm to reduce the given
+     * points to exactly the specified number of points. The first and last
+     * point always stay, from each bucket in between the point forming the
+     * largest triangle with the previously kept point and the average of the
+     * next bucket is kept. Never writes more than the specified number of
+     * indices.
+     * 
+     * @param xVals
+     * @param yVals
+     * @param count
+     * @param threshold the number of points to keep
+     * @param outIndices
+     * @return
+     */
+    private int reduceWithLTTB(float[] xVals, float[] yVals, int count, int threshold,
+            int[] outIndices) {
+
+        if (threshold >= count) {
+            for (int i = 0; i < count; i++)
+                outIndices[i] = i;
+            return count;
         }
 
-        // find the greatest distance between start and endpoint
-        int maxDistIndex = 0;
-        double distMax = 0;
+        // too few points for any bucket, keep first and last if possible
+        if (threshold < 3) {
 
-        Entry firstEntry = entries.get(start);
-        Entry lastEntry = entries.get(end);
+            int kept = 0;
 
-        for (int i = start + 1; i < end; i++) {
-            double dist = calcAngleBetweenLines(firstEntry, lastEntry, firstEntry, entries.get(i));
+            if (threshold >= 1)
+                outIndices[kept++] = 0;
+            if (threshold >= 2)
+                outIndices[kept++] = count - 1;
 
-            // keep the point with the greatest distance
-            if (dist > distMax) {
-                distMax = dist;
-                maxDistIndex = i;
-            }
+            return kept;
         }
 
-        // Log.i("maxangle", "" + distMax);
+        final double bucketSize = (double) (count - 2) / (threshold - 2);
+
+        int kept = 0;
+        int a = 0;
+
+        outIndices[kept++] = a;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+
+            // average of the next bucket
+            int avgStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int avgEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, count);
+
+            double avgX = 0;
+            double avgY = 0;
+
+            for (int i = avgStart; i < avgEnd; i++) {
+                avgX += xVals[i];
+                avgY += yVals[i];
+            }
+
+            int avgLength = avgEnd - avgStart;
+            avgX /= avgLength;
+            avgY /= avgLength;
+
+            // range of the current bucket
+            int rangeStart = (int) (bucket * bucketSize) + 1;
+            int rangeEnd = (int) ((bucket + 1) * bucketSize) + 1;
+
+            final double pointAX = xVals[a];
+            final double pointAY = yVals[a];
+
+            double maxArea = -1;
+            int maxIndex = rangeStart;
+
+            for (int i = rangeStart; i < rangeEnd; i++) {
+
+                // twice the triangle area, enough for comparison
+                double area = Math.abs((pointAX - avgX) * (yVals[i] - pointAY)
+                        - (pointAX - xVals[i]) * (avgY - pointAY));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            outIndices[kept++] = maxIndex;
+            a = maxIndex;
+        }
 
-        if (distMax > epsilon) {
-            // keep max dist point
-            keep[maxDistIndex] = true;
+        outIndices[kept++] = count - 1;
 
-            // recursive call
-            algorithmDouglasPeucker(entries, epsilon, start, maxDistIndex);
-            algorithmDouglasPeucker(entries, epsilon, maxDistIndex, end);
-        } // else don't keep the point...
+        return kept;
     }
 
     /**
@@ -0,0 +1,892 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.Entry;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Multi-resolution pyramid (mipmap) of a DataSet's entries. Each level
+ * aggregates a fixed number of consecutive entries (factor^level) into one
+ * bucket holding min, max, first, last and average value. Renderers can pick
+ * the level that matches the number of visible entries, so that a fully
+ * zoomed out chart with millions of entries only draws a few thousand
+ * buckets. The pyramid is updated incrementally when entries are appended to
+ * or removed from either end of the DataSet and can be built on a background
+ * thread for bulk loads. It keeps a copy of the x-indices and values of the
+ * entries for updating the buckets at the ends.
+ */
+public class DataPyramid {
+
+    /**
+     * One level of the pyramid. Contains the buckets from "start" to "end"
+     * (exclusive), each of them aggregating "span" consecutive entries
+     * (except the first and last bucket, which may contain less).
+     */
+    public static class Level {
+
+        /** the number of entries aggregated by one (full) bucket */
+        public final int span;
+
+        /** the index of the first bucket, the ones before were removed */
+        public int start = 0;
+
+        /** the index after the last bucket */
+        public int end = 0;
+
+        /** the number of entries removed from the front of the first bucket */
+        protected int firstOffset = 0;
+
+        /** x-index of the first and last entry of each bucket */
+        public int[] xFrom;
+        public int[] xTo;
+
+        /** the number of entries each bucket contains */
+        public int[] count;
+
+        public float[] min;
+        public float[] max;
+        public float[] first;
+        public float[] last;
+        public double[] sum;
+
+        protected Level(int span, int capacity) {
+            this.span = span;
+
+            capacity = Math.max(capacity, 4);
+
+            xFrom = new int[capacity];
+            xTo = new int[capacity];
+            count = new int[capacity];
+            min = new float[capacity];
+            max = new float[capacity];
+            first = new float[capacity];
+            last = new float[capacity];
+            sum = new double[capacity];
+        }
+
+        /**
+         * Returns the average value of the given bucket.
+         *
+         * @param bucket
+         * @return
+         */
+        public float getAverage(int bucket) {
+            return (float) (sum[bucket] / count[bucket]);
+        }
+
+        /**
+         * Returns the x-position (center between first and last x-index) of
+         * the given bucket.
+         *
+         * @param bucket
+         * @return
+         */
+        public float getX(int bucket) {
+            return (xFrom[bucket] + xTo[bucket]) / 2f;
+        }
+
+        /**
+         * Returns the index of the bucket that contains the entry at the given
+         * index of the DataSet.
+         *
+         * @param entryIndex
+         * @return
+         */
+        public int getBucketForEntry(int entryIndex) {
+            return start + (entryIndex + firstOffset) / span;
+        }
+
+        /**
+         * Returns true if the last bucket of this level cannot take any more
+         * entries.
+         *
+         * @return
+         */
+        protected boolean isLastBucketFull() {
+
+            if (end == start)
+                return true;
+
+            int offset = end - 1 == start ? firstOffset : 0;
+
+            return count[end - 1] + offset >= span;
+        }
+
+        /**
+         * Adds the given value to the last bucket, or starts a new bucket if
+         * the last one is full.
+         *
+         * @param xIndex
+         * @param val
+         */
+        protected void append(int xIndex, float val) {
+
+            if (isLastBucketFull()) {
+
+                ensureCapacity(end + 1);
+
+                xFrom[end] = xIndex;
+                xTo[end] = xIndex;
+                count[end] = 1;
+                min[end] = val;
+                max[end] = val;
+                first[end] = val;
+                last[end] = val;
+                sum[end] = val;
+                end++;
+
+            } else {
+
+                int b = end - 1;
+
+                xTo[b] = xIndex;
+                count[b]++;
+                last[b] = val;
+                sum[b] += val;
+
+                if (val < min[b])
+                    min[b] = val;
+                if (val > max[b])
+                    max[b] = val;
+            }
+        }
+
+        /**
+         * Merges the buckets "from" (inclusive) to "to" (exclusive) of the
+         * given lower level into a new bucket of this level.
+         *
+         * @param lower
+         * @param from
+         * @param to
+         */
+        protected void appendMerged(Level lower, int from, int to) {
+
+            ensureCapacity(end + 1);
+            end++;
+            setMerged(end - 1, lower, from, to);
+        }
+
+        /**
+         * Sets the given bucket to the merged buckets "from" (inclusive) to
+         * "to" (exclusive) of the given lower level.
+         *
+         * @param bucket
+         * @param lower
+         * @param from
+         * @param to
+         */
+        protected void setMerged(int bucket, Level lower, int from, int to) {
+
+            xFrom[bucket] = lower.xFrom[from];
+            xTo[bucket] = lower.xTo[to - 1];
+            first[bucket] = lower.first[from];
+            last[bucket] = lower.last[to - 1];
+
+            int cnt = 0;
+            float mn = Float.MAX_VALUE;
+            float mx = -Float.MAX_VALUE;
+            double s = 0.0;
+
+            for (int i = from; i < to; i++) {
+
+                cnt += lower.count[i];
+                s += lower.sum[i];
+
+                if (lower.min[i] < mn)
+                    mn = lower.min[i];
+                if (lower.max[i] > mx)
+                    mx = lower.max[i];
+            }
+
+            count[bucket] = cnt;
+            min[bucket] = mn;
+            max[bucket] = mx;
+            sum[bucket] = s;
+        }
+
+        /**
+         * Sets the given bucket to the given part of the x-indices and values
+         * of the entries.
+         *
+         * @param bucket
+         * @param xIndices
+         * @param vals
+         * @param from
+         * @param to
+         */
+        protected void setEntries(int bucket, int[] xIndices, float[] vals, int from, int to) {
+
+            xFrom[bucket] = xIndices[from];
+            xTo[bucket] = xIndices[to - 1];
+            first[bucket] = vals[from];
+            last[bucket] = vals[to - 1];
+
+            float mn = Float.MAX_VALUE;
+            float mx = -Float.MAX_VALUE;
+            double s = 0.0;
+
+            for (int i = from; i < to; i++) {
+
+                s += vals[i];
+
+                if (vals[i] < mn)
+                    mn = vals[i];
+                if (vals[i] > mx)
+                    mx = vals[i];
+            }
+
+            count[bucket] = to - from;
+            min[bucket] = mn;
+            max[bucket] = mx;
+            sum[bucket] = s;
+        }
+
+        /**
+         * Removes all buckets.
+         */
+        protected void clear() {
+            start = 0;
+            end = 0;
+            firstOffset = 0;
+        }
+
+        /**
+         * Makes room for the given number of buckets after start. The buckets
+         * are moved to the front of the arrays if the removed ones before
+         * start make up at least half of them, otherwise the arrays grow.
+         *
+         * @param capacity
+         */
+        private void ensureCapacity(int capacity) {
+
+            if (capacity <= count.length)
+                return;
+
+            int newCapacity = capacity - start;
+
+            if (start < count.length / 2)
+                newCapacity = Math.max(newCapacity, count.length * 2);
+            else
+                newCapacity = count.length;
+
+            xFrom = copyOf(xFrom, start, end, newCapacity);
+            xTo = copyOf(xTo, start, end, newCapacity);
+            count = copyOf(count, start, end, newCapacity);
+            min = copyOf(min, start, end, newCapacity);
+            max = copyOf(max, start, end, newCapacity);
+            first = copyOf(first, start, end, newCapacity);
+            last = copyOf(last, start, end, newCapacity);
+            sum = copyOf(sum, start, end, newCapacity);
+
+            end -= start;
+            start = 0;
+        }
+
+        private static int[] copyOf(int[] array, int from, int to, int length) {
+            int[] copy = length == array.length ? array : new int[length];
+            System.arraycopy(array, from, copy, 0, to - from);
+            return copy;
+        }
+
+        private static float[] copyOf(float[] array, int from, int to, int length) {
+            float[] copy = length == array.length ? array : new float[length];
+            System.arraycopy(array, from, copy, 0, to - from);
+            return copy;
+        }
+
+        private static double[] copyOf(double[] array, int from, int to, int length) {
+            double[] copy = length == array.length ? array : new double[length];
+            System.arraycopy(array, from, copy, 0, to - from);
+            return copy;
+        }
+    }
+
+    /** the number of buckets of a level that are merged into the next level */
+    private final int mFactor;
+
+    /** the levels of the pyramid, finest first, empty while not built */
+    private volatile Level[] mLevels = new Level[0];
+
+    /**
+     * the x-indices and values of the entries the levels were built from,
+     * the entries from mEntryStart to mEntryEnd (exclusive) are in use
+     */
+    private int[] mXIndices = new int[0];
+    private float[] mVals = new float[0];
+    private int mEntryStart = 0;
+    private int mEntryEnd = 0;
+
+    /**
+     * the number of entries removed from the front since the levels were
+     * built, the buckets stay aligned to the first entry they were built from
+     */
+    private long mRemovedCount = 0;
+
+    /** the thread background builds run on, created on first use */
+    private ExecutorService mExecutor = null;
+
+    /** incremented with every (re)build, used to discard outdated builds */
+    private int mGeneration = 0;
+
+    /** true while a background build is running */
+    private boolean mBuilding = false;
+
+    /** the kinds of modifications made while a background build is running */
+    private static final int PENDING_APPEND = 0;
+    private static final int PENDING_REMOVE_FIRST = 1;
+    private static final int PENDING_REMOVE_LAST = 2;
+
+    /**
+     * the modifications made while a background build is running, with the
+     * x-index and value of appended entries
+     */
+    private int[] mPendingTypes = new int[16];
+    private int[] mPendingX = new int[16];
+    private float[] mPendingVals = new float[16];
+    private int mPendingCount = 0;
+
+    /**
+     * Creates a new pyramid that merges "factor" entries (or buckets of the
+     * lower level) into one bucket, usually 4 or 16.
+     *
+     * @param factor
+     */
+    public DataPyramid(int factor) {
+
+        if (factor < 2)
+            throw new IllegalArgumentException("The factor of a DataPyramid must be at least 2.");
+
+        mFactor = factor;
+    }
+
+    /**
+     * Returns the number of buckets of a level that are merged into one
+     * bucket of the next level.
+     *
+     * @return
+     */
+    public int getFactor() {
+        return mFactor;
+    }
+
+    /**
+     * Returns true if the pyramid is built and can be used for rendering.
+     *
+     * @return
+     */
+    public boolean isReady() {
+        return mLevels.length > 0;
+    }
+
+    /**
+     * Returns the number of levels the pyramid currently consists of.
+     *
+     * @return
+     */
+    public int getLevelCount() {
+        return mLevels.length;
+    }
+
+    /**
+     * Returns the level at the given index, index 0 being the finest level
+     * (each bucket aggregating "factor" entries).
+     *
+     * @param index
+     * @return
+     */
+    public Level getLevel(int index) {
+        return mLevels[index];
+    }
+
+    /**
+     * Returns the finest level in which the given number of entries is
+     * represented by no more than maxBuckets buckets. Returns null if the
+     * entries themselves should be drawn (entryCount <= maxBuckets) or if the
+     * pyramid is not (yet) built.
+     *
+     * @param entryCount the number of visible entries
+     * @param maxBuckets the maximum number of buckets that should be drawn,
+     *            e.g. the width of the content area in pixels
+     * @return
+     */
+    public Level getLevelForRange(int entryCount, int maxBuckets) {
+
+        Level[] levels = mLevels;
+
+        if (entryCount <= maxBuckets || levels.length == 0)
+            return null;
+
+        for (int i = 0; i < levels.length; i++) {
+            if (entryCount / levels[i].span <= maxBuckets)
+                return levels[i];
+        }
+
+        return levels[levels.length - 1];
+    }
+
+    /**
+     * Builds the pyramid from the given entries on the calling thread.
+     *
+     * @param entries
+     */
+    public void build(List<? extends Entry> entries) {
+
+        int entryCount = entries.size();
+        int[] xIndices = new int[entryCount];
+        float[] vals = new float[entryCount];
+
+        copyEntries(entries, xIndices, vals);
+
+        Level[] levels = buildLevels(xIndices, vals, entryCount);
+
+        synchronized (this) {
+            mGeneration++;
+            mBuilding = false;
+            mPendingCount = 0;
+            setEntries(xIndices, vals, entryCount);
+            mLevels = levels;
+        }
+    }
+
+    /**
+     * Builds the pyramid from the given entries on a background thread. The
+     * x-indices and values are copied on the calling thread, the list may be
+     * modified freely afterwards. Entries appended or removed at either end
+     * while building need to be passed to append(...), removeFirst() or
+     * removeLast() to be part of the new pyramid. The levels of a previous
+     * build are not used anymore, the entries themselves are drawn until the
+     * build is finished. All builds of a pyramid run one after another on the
+     * same thread, builds that are outdated by a newer one before they start
+     * are skipped.
+     *
+     * @param entries
+     * @param onBuilt called on the background thread once the pyramid is
+     *            ready, e.g. to invalidate the chart, may be null
+     */
+    public void buildInBackground(List<? extends Entry> entries, final Runnable onBuilt) {
+
+        final int entryCount = entries.size();
+        final int[] xIndices = new int[entryCount];
+        final float[] vals = new float[entryCount];
+
+        copyEntries(entries, xIndices, vals);
+
+        final int generation;
+        final ExecutorService executor;
+
+        synchronized (this) {
+            generation = ++mGeneration;
+            mBuilding = true;
+            mPendingCount = 0;
+
+            // the previous levels do not match the entries anymore
+            mLevels = new Level[0];
+            setEntries(new int[0], new float[0], 0);
+
+            if (mExecutor == null)
+                mExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+
+                        Thread thread = new Thread(runnable, "DataPyramid");
+                        thread.setDaemon(true);
+                        thread.setPriority(Thread.MIN_PRIORITY);
+                        return thread;
+                    }
+                });
+
+            executor = mExecutor;
+        }
+
+        executor.execute(new Runnable() {
+
+            @Override
+            public void run() {
+
+                synchronized (DataPyramid.this) {
+
+                    // outdated by a newer build before it started
+                    if (generation != mGeneration)
+                        return;
+                }
+
+                Level[] levels = buildLevels(xIndices, vals, entryCount);
+
+                synchronized (DataPyramid.this) {
+
+                    // outdated by a newer build
+                    if (generation != mGeneration)
+                        return;
+
+                    setEntries(xIndices, vals, entryCount);
+
+                    for (int i = 0; i < mPendingCount; i++) {
+
+                        switch (mPendingTypes[i]) {
+                            case PENDING_APPEND:
+                                levels = append(levels, mPendingX[i], mPendingVals[i]);
+                                break;
+                            case PENDING_REMOVE_FIRST:
+                                removeFirst(levels);
+                                break;
+                            case PENDING_REMOVE_LAST:
+                                removeLast(levels);
+                                break;
+                        }
+                    }
+
+                    mPendingCount = 0;
+                    mBuilding = false;
+                    mLevels = levels;
+                }
+
+                if (onBuilt != null)
+                    onBuilt.run();
+            }
+        });
+    }
+
+    /**
+     * Incrementally adds an entry that was appended to the end of the
+     * DataSet.
+     *
+     * @param xIndex
+     * @param val
+     */
+    public synchronized void append(int xIndex, float val) {
+
+        if (mBuilding)
+            addPending(PENDING_APPEND, xIndex, val);
+        else if (mLevels.length > 0)
+            mLevels = append(mLevels, xIndex, val);
+    }
+
+    /**
+     * Incrementally removes the first entry after it was removed from the
+     * DataSet.
+     */
+    public synchronized void removeFirst() {
+
+        if (mBuilding)
+            addPending(PENDING_REMOVE_FIRST, 0, 0f);
+        else if (mLevels.length > 0)
+            removeFirst(mLevels);
+    }
+
+    /**
+     * Incrementally removes the last entry after it was removed from the
+     * DataSet.
+     */
+    public synchronized void removeLast() {
+
+        if (mBuilding)
+            addPending(PENDING_REMOVE_LAST, 0, 0f);
+        else if (mLevels.length > 0)
+            removeLast(mLevels);
+    }
+
+    /**
+     * Removes all levels of the pyramid, renderers will draw the entries
+     * themselves until it is built again. Also stops the background thread,
+     * a running build is discarded.
+     */
+    public synchronized void clear() {
+        mGeneration++;
+        mBuilding = false;
+        mPendingCount = 0;
+        mLevels = new Level[0];
+        setEntries(new int[0], new float[0], 0);
+
+        if (mExecutor != null) {
+            mExecutor.shutdown();
+            mExecutor = null;
+        }
+    }
+
+    /**
+     * Remembers a modification made while a background build is running.
+     *
+     * @param type
+     * @param xIndex
+     * @param val
+     */
+    private void addPending(int type, int xIndex, float val) {
+
+        if (mPendingCount == mPendingTypes.length) {
+
+            int[] types = new int[mPendingCount * 2];
+            int[] x = new int[mPendingCount * 2];
+            float[] vals = new float[mPendingCount * 2];
+            System.arraycopy(mPendingTypes, 0, types, 0, mPendingCount);
+            System.arraycopy(mPendingX, 0, x, 0, mPendingCount);
+            System.arraycopy(mPendingVals, 0, vals, 0, mPendingCount);
+            mPendingTypes = types;
+            mPendingX = x;
+            mPendingVals = vals;
+        }
+
+        mPendingTypes[mPendingCount] = type;
+        mPendingX[mPendingCount] = xIndex;
+        mPendingVals[mPendingCount] = val;
+        mPendingCount++;
+    }
+
+    /**
+     * Sets the x-indices and values the levels are built from.
+     *
+     * @param xIndices
+     * @param vals
+     * @param entryCount
+     */
+    private void setEntries(int[] xIndices, float[] vals, int entryCount) {
+        mXIndices = xIndices;
+        mVals = vals;
+        mEntryStart = 0;
+        mEntryEnd = entryCount;
+        mRemovedCount = 0;
+    }
+
+    /**
+     * Adds the given value to the entries and all levels, and adds a new top
+     * level if the current top level has grown larger than the factor.
+     *
+     * @param levels
+     * @param xIndex
+     * @param val
+     * @return
+     */
+    private Level[] append(Level[] levels, int xIndex, float val) {
+
+        if (mEntryEnd == mXIndices.length) {
+
+            int count = mEntryEnd - mEntryStart;
+
+            // move the entries to the front, or grow if more than half is used
+            int capacity = count < mXIndices.length / 2 ? mXIndices.length
+                    : Math.max(count * 2, 16);
+
+            int[] x = capacity == mXIndices.length ? mXIndices : new int[capacity];
+            float[] vals = capacity == mVals.length ? mVals : new float[capacity];
+            System.arraycopy(mXIndices, mEntryStart, x, 0, count);
+            System.arraycopy(mVals, mEntryStart, vals, 0, count);
+            mXIndices = x;
+            mVals = vals;
+            mEntryStart = 0;
+            mEntryEnd = count;
+        }
+
+        mXIndices[mEntryEnd] = xIndex;
+        mVals[mEntryEnd] = val;
+        mEntryEnd++;
+
+        for (int i = 0; i < levels.length; i++)
+            levels[i].append(xIndex, val);
+
+        Level top = levels[levels.length - 1];
+
+        if (top.end - top.start > mFactor && (long) top.span * mFactor <= Integer.MAX_VALUE) {
+
+            Level[] grown = new Level[levels.length + 1];
+            System.arraycopy(levels, 0, grown, 0, levels.length);
+            grown[levels.length] = mergeLevel(top);
+            return grown;
+        }
+
+        return levels;
+    }
+
+    /**
+     * Removes the first entry from the entries and the first bucket of all
+     * levels. Only the first bucket of each level is recomputed.
+     *
+     * @param levels
+     */
+    private void removeFirst(Level[] levels) {
+
+        if (mEntryStart == mEntryEnd)
+            return;
+
+        mEntryStart++;
+        mRemovedCount++;
+
+        if (mEntryStart == mEntryEnd) {
+            clearLevels(levels);
+            return;
+        }
+
+        Level lower = null;
+
+        for (int i = 0; i < levels.length; i++) {
+
+            Level level = levels[i];
+            int b = level.start;
+            int count = level.count[b] - 1;
+
+            if (count == 0) {
+
+                // the whole bucket is removed, the next one is full
+                level.start++;
+
+            } else if (lower == null) {
+                level.setEntries(b, mXIndices, mVals, mEntryStart, mEntryStart + count);
+            } else {
+
+                // the lower buckets that make up the first bucket
+                int to = lower.start;
+
+                for (int n = 0; n < count; to++)
+                    n += lower.count[to];
+
+                level.setMerged(b, lower, lower.start, to);
+            }
+
+            level.firstOffset = (int) (mRemovedCount % level.span);
+            lower = level;
+        }
+    }
+
+    /**
+     * Removes the last entry from the entries and the last bucket of all
+     * levels. Only the last bucket of each level is recomputed.
+     *
+     * @param levels
+     */
+    private void removeLast(Level[] levels) {
+
+        if (mEntryStart == mEntryEnd)
+            return;
+
+        mEntryEnd--;
+
+        if (mEntryStart == mEntryEnd) {
+            clearLevels(levels);
+            return;
+        }
+
+        Level lower = null;
+
+        for (int i = 0; i < levels.length; i++) {
+
+            Level level = levels[i];
+            int b = level.end - 1;
+            int count = level.count[b] - 1;
+
+            if (count == 0) {
+                level.end--;
+            } else if (lower == null) {
+                level.setEntries(b, mXIndices, mVals, mEntryEnd - count, mEntryEnd);
+            } else {
+
+                // the lower buckets that make up the last bucket
+                int from = lower.end;
+
+                for (int n = 0; n < count; from--)
+                    n += lower.count[from - 1];
+
+                level.setMerged(b, lower, from, lower.end);
+            }
+
+            lower = level;
+        }
+    }
+
+    /**
+     * Removes all buckets of the given levels after the last entry has been
+     * removed, new entries start new buckets.
+     *
+     * @param levels
+     */
+    private void clearLevels(Level[] levels) {
+
+        mEntryStart = 0;
+        mEntryEnd = 0;
+        mRemovedCount = 0;
+
+        for (int i = 0; i < levels.length; i++)
+            levels[i].clear();
+    }
+
+    /**
+     * Copies the x-indices and values of the given entries into the given
+     * arrays.
+     *
+     * @param entries
+     * @param xIndices
+     * @param vals
+     */
+    private static void copyEntries(List<? extends Entry> entries, int[] xIndices, float[] vals) {
+
+        for (int i = 0; i < xIndices.length; i++) {
+            Entry e = entries.get(i);
+            xIndices[i] = e.getXIndex();
+            vals[i] = e.getVal();
+        }
+    }
+
+    /**
+     * Builds all levels for the first entryCount of the given x-indices and
+     * values.
+     *
+     * @param xIndices
+     * @param vals
+     * @param entryCount
+     * @return
+     */
+    private Level[] buildLevels(int[] xIndices, float[] vals, int entryCount) {
+
+        Level finest = new Level(mFactor, entryCount / mFactor + 1);
+
+        for (int i = 0; i < entryCount; i++)
+            finest.append(xIndices[i], vals[i]);
+
+        Level[] levels = new Level[] {
+                finest
+        };
+
+        Level top = finest;
+
+        while (top.end > mFactor && (long) top.span * mFactor <= Integer.MAX_VALUE) {
+
+            top = mergeLevel(top);
+
+            Level[] grown = new Level[levels.length + 1];
+            System.arraycopy(levels, 0, grown, 0, levels.length);
+            grown[levels.length] = top;
+            levels = grown;
+        }
+
+        return levels;
+    }
+
+    /**
+     * Creates the next coarser level from the given one. The buckets of the
+     * new level are aligned to the first entry the levels were built from,
+     * like the ones of all other levels.
+     *
+     * @param lower
+     * @return
+     */
+    private Level mergeLevel(Level lower) {
+
+        int size = lower.end - lower.start;
+
+        Level level = new Level(lower.span * mFactor, size / mFactor + 1);
+        level.firstOffset = (int) (mRemovedCount % level.span);
+
+        // the number of lower buckets in the first (partial) bucket
+        int first = mFactor - (int) ((mRemovedCount % level.span) / lower.span);
+
+        for (int from = lower.start; from < lower.end; ) {
+
+            int to = Math.min(from + (from == lower.start ? first : mFactor), lower.end);
+            level.appendMerged(lower, from, to);
+            from = to;
+        }
+
+        return level;
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.mikephil.charting.formatter;
+
+/**
+ * Interface for formatters that write the formatted value into a char-array
+ * instead of creating a String. Renderers draw the chars directly, so
+ * formatting value- and axis-labels does not allocate any memory. Formatters
+ * implementing this interface are used like any other ValueFormatter or
+ * YAxisValueFormatter, the renderers detect it.
+ */
+public interface CharValueFormatter {
+
+    /**
+     * the maximum number of chars a formatted value may have
+     */
+    int MAX_LENGTH = 64;
+
+    /**
+     * Writes the formatted value into the given array, starting at index 0.
+     * Implementations must not allocate memory and must not write more than
+     * MAX_LENGTH chars.
+     *
+     * @param value the value to be formatted
+     * @param out   array with at least MAX_LENGTH chars
+     * @return the number of chars written
+     */
+    int formatValue(float value, char[] out);
+}
@@ -0,0 +1,82 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Allocation-free formatter for values with a fixed number of decimals and
+ * optionally separated thousands, e.g. 1,234,567.8. The separators are taken
+ * from the default locale, like the DefaultValueFormatter does.
+ */
+public class FastDecimalFormatter implements ValueFormatter, YAxisValueFormatter,
+        CharValueFormatter {
+
+    private int mDigits;
+    private boolean mSeparateThousands;
+
+    private char mDecimalSeparator;
+    private char mGroupingSeparator;
+
+    /** only used for the String based methods */
+    private final char[] mChars = new char[MAX_LENGTH];
+
+    /**
+     * Constructor that specifies to how many digits the value should be
+     * formatted, thousands are separated.
+     *
+     * @param digits
+     */
+    public FastDecimalFormatter(int digits) {
+        this(digits, true);
+    }
+
+    /**
+     * Constructor that specifies to how many digits the value should be
+     * formatted and if thousands should be separated.
+     *
+     * @param digits
+     * @param separateThousands
+     */
+    public FastDecimalFormatter(int digits, boolean separateThousands) {
+        mDigits = digits;
+        mSeparateThousands = separateThousands;
+
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+    }
+
+    /**
+     * Sets the chars used as decimal and thousands separator, instead of the
+     * ones of the default locale.
+     *
+     * @param decimalSeparator
+     * @param groupingSeparator
+     */
+    public void setSeparators(char decimalSeparator, char groupingSeparator) {
+        mDecimalSeparator = decimalSeparator;
+        mGroupingSeparator = groupingSeparator;
+    }
+
+    @Override
+    public int formatValue(float value, char[] out) {
+        return Utils.formatNumber(value, mDigits, mDecimalSeparator,
+                mSeparateThousands ? mGroupingSeparator : 0, out, 0);
+    }
+
+    // ValueFormatter
+    @Override
+    public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
+        return String.valueOf(mChars, 0, formatValue(value, mChars));
+    }
+
+    // YAxisValueFormatter
+    @Override
+    public String getFormattedValue(float value, YAxis yAxis) {
+        return String.valueOf(mChars, 0, formatValue(value, mChars));
+    }
+}
@@ -0,0 +1,227 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Allocation-free formatter that formats large numbers in a pretty way, like
+ * the LargeValueFormatter does: rounded to three significant digits, then
+ * cut to at most four characters. Outputs: 856 = 856; 1000 = 1k; 1049 = 1.0k;
+ * 5821 = 5.8k; 10500 = 10k; 101800 = 102k; 2000000 = 2m; 7800000 = 7.8m;
+ * 92150000 = 92m; 123200000 = 123m; 9999999 = 10m; 1000000000 = 1b. Negative
+ * values are formatted like their absolute value with a leading minus, values
+ * below 1 with at most two decimals.
+ */
+public class FastLargeValueFormatter implements ValueFormatter, YAxisValueFormatter,
+        CharValueFormatter {
+
+    /** the maximum length of a suffix */
+    private static final int MAX_SUFFIX_LENGTH = 8;
+
+    /** the maximum length of the appendix */
+    private static final int MAX_APPENDIX_LENGTH = 24;
+
+    /** the number of characters the number and its suffix are cut to */
+    private static final int MAX_NUMBER_LENGTH = 4;
+
+    private String[] mSuffix = new String[]{
+            "", "k", "m", "b", "t"
+    };
+
+    private String mText = "";
+
+    private char mDecimalSeparator;
+
+    /** only used for the String based methods */
+    private final char[] mChars = new char[MAX_LENGTH];
+
+    public FastLargeValueFormatter() {
+        mDecimalSeparator = new DecimalFormatSymbols().getDecimalSeparator();
+    }
+
+    /**
+     * Creates a formatter that appends a specified text to the result string
+     *
+     * @param appendix a text that will be appended
+     */
+    public FastLargeValueFormatter(String appendix) {
+        this();
+        setAppendix(appendix);
+    }
+
+    /**
+     * Set an appendix text to be added at the end of the formatted value, at
+     * most 24 chars.
+     *
+     * @param appendix
+     */
+    public void setAppendix(String appendix) {
+
+        if (appendix.length() > MAX_APPENDIX_LENGTH)
+            throw new IllegalArgumentException("The appendix must not be longer than "
+                    + MAX_APPENDIX_LENGTH + " chars.");
+
+        mText = appendix;
+    }
+
+    /**
+     * Set custom suffix to be appended after the values, each at most 8
+     * chars. Default suffix: ["", "k", "m", "b", "t"]
+     *
+     * @param suff new suffix
+     */
+    public void setSuffix(String[] suff) {
+
+        if (suff.length != 5)
+            return;
+
+        for (String s : suff) {
+            if (s.length() > MAX_SUFFIX_LENGTH)
+                throw new IllegalArgumentException("A suffix must not be longer than "
+                        + MAX_SUFFIX_LENGTH + " chars.");
+        }
+
+        mSuffix = suff;
+    }
+
+    @Override
+    public int formatValue(float value, char[] out) {
+
+        if (Float.isNaN(value) || Float.isInfinite(value))
+            return Utils.formatNumber(value, 0, mDecimalSeparator, (char) 0, out, 0);
+
+        double m = Math.abs((double) value);
+
+        // below 1 there is no suffix, at most two decimals are shown
+        if (m < 1.0) {
+
+            long hundredths = (long) Math.rint(m * 100.0);
+
+            if (hundredths < 100) {
+
+                int pos = 0;
+
+                if (value < 0 && hundredths != 0)
+                    out[pos++] = '-';
+
+                out[pos++] = '0';
+
+                if (hundredths != 0) {
+                    out[pos++] = mDecimalSeparator;
+                    out[pos++] = (char) ('0' + hundredths / 10);
+
+                    if (hundredths % 10 != 0)
+                        out[pos++] = (char) ('0' + hundredths % 10);
+                }
+
+                mText.getChars(0, mText.length(), out, pos);
+                return pos + mText.length();
+            }
+
+            // rounds to 1
+            m = 1.0;
+        }
+
+        // the value rounded to three significant digits (half-even, the
+        // rounding of DecimalFormat("###E0")), as digits * 10^(exponent - 2)
+        int exponent = (int) Math.floor(Math.log10(m));
+
+        // log10 might be off by one next to powers of ten
+        if (m >= Math.pow(10.0, exponent + 1))
+            exponent++;
+        else if (m < Math.pow(10.0, exponent))
+            exponent--;
+
+        int digits = (int) Math.rint(exponent >= 2
+                ? m / Math.pow(10.0, exponent - 2)
+                : m * Math.pow(10.0, 2 - exponent));
+
+        if (digits >= 1000) {
+            digits /= 10;
+            exponent++;
+        }
+
+        final int group = Math.min(exponent / 3, mSuffix.length - 1);
+        final String suffix = mSuffix[group];
+
+        final int integerDigits = exponent - group * 3 + 1;
+        int fractionDigits = 0;
+
+        if (integerDigits < 3) {
+
+            // trailing zeros are dropped, e.g. 1.5k instead of 1.50k
+            fractionDigits = 3 - integerDigits;
+            int d = digits;
+
+            while (fractionDigits > 0 && d % 10 == 0) {
+                d /= 10;
+                fractionDigits--;
+            }
+
+            // decimals that do not fit are cut off, not rounded, e.g. 10.5k
+            // becomes 10k, but 1.05k becomes 1.0k
+            final int length = MAX_NUMBER_LENGTH - suffix.length();
+
+            if (integerDigits + 1 + fractionDigits > length)
+                fractionDigits = Math.max(length - integerDigits - 1, 0);
+        }
+
+        int pos = 0;
+
+        if (value < 0)
+            out[pos++] = '-';
+
+        for (int i = 0; i < integerDigits; i++)
+            out[pos++] = i < 3 ? digitAt(digits, i) : '0';
+
+        if (fractionDigits > 0) {
+
+            out[pos++] = mDecimalSeparator;
+
+            for (int i = 0; i < fractionDigits; i++)
+                out[pos++] = digitAt(digits, integerDigits + i);
+        }
+
+        suffix.getChars(0, suffix.length(), out, pos);
+        pos += suffix.length();
+
+        mText.getChars(0, mText.length(), out, pos);
+        pos += mText.length();
+
+        return pos;
+    }
+
+    /**
+     * Returns the digit at the given position (0 to 2, from the left) of the
+     * given three digit number.
+     *
+     * @param digits
+     * @param position
+     * @return
+     */
+    private static char digitAt(int digits, int position) {
+
+        if (position == 0)
+            return (char) ('0' + digits / 100);
+        if (position == 1)
+            return (char) ('0' + digits / 10 % 10);
+
+        return (char) ('0' + digits % 10);
+    }
+
+    // ValueFormatter
+    @Override
+    public String getFormattedValue(float value, Entry entry, int dataSetIndex, ViewPortHandler viewPortHandler) {
+        return String.valueOf(mChars, 0, formatValue(value, mChars));
+    }
+
+    // YAxisValueFormatter
+    @Override
+    public String getFormattedValue(float value, YAxis yAxis) {
+        return String.valueOf(mChars, 0, formatValue(value, mChars));
+    }
+}
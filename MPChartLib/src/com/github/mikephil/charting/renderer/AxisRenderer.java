@@ -5,10 +5,14 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
+import android.graphics.Path;
 
+import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.List;
+
 /**
  * Baseclass of all axis renderers.
  * 
@@ -30,6 +34,21 @@ public abstract class AxisRenderer extends Renderer {
 	/** paint used for the limit lines */
 	protected Paint mLimitLinePaint;
 
+    /** buffer for line segments (x0, y0, x1, y1) that are drawn at once */
+    protected float[] mLineSegments = new float[32];
+
+    /** path for drawing the segments of dashed lines at once */
+    protected Path mDashedLinesPath = new Path();
+
+    /** pixel positions of the limit lines, NaN for lines that are not drawn */
+    protected float[] mLimitLinePixels = new float[8];
+
+    /** marks the limit lines already drawn with a previous batch */
+    private boolean[] mLimitLineDrawn = new boolean[8];
+
+    /** point buffer for drawing the label of a single limit line */
+    protected float[] mLimitLinePoint = new float[2];
+
 	public AxisRenderer(ViewPortHandler viewPortHandler, Transformer trans) {
         super(viewPortHandler);
 
@@ -117,4 +136,161 @@ public abstract class AxisRenderer extends Renderer {
 	 * @param c
 	 */
 	public abstract void renderLimitLines(Canvas c);
+
+    /**
+     * Returns mLineSegments with room for at least the given number of lines.
+     *
+     * @param lineCount
+     * @return
+     */
+    protected float[] getLineSegmentsBuffer(int lineCount) {
+
+        if (mLineSegments.length < lineCount * 4)
+            mLineSegments = new float[lineCount * 4];
+
+        return mLineSegments;
+    }
+
+    /**
+     * Draws the first count / 4 line segments of the given buffer with one
+     * call. If the paint has a PathEffect (e.g. dashes), the segments are
+     * drawn as one path, because lines don't support dashing on lower android
+     * versions.
+     *
+     * @param c
+     * @param segments
+     * @param count    number of floats to draw
+     * @param paint
+     */
+    protected void drawLineSegments(Canvas c, float[] segments, int count, Paint paint) {
+
+        if (count < 4)
+            return;
+
+        if (paint.getPathEffect() == null) {
+            c.drawLines(segments, 0, count, paint);
+            return;
+        }
+
+        mDashedLinesPath.reset();
+
+        for (int i = 0; i < count; i += 4) {
+            mDashedLinesPath.moveTo(segments[i], segments[i + 1]);
+            mDashedLinesPath.lineTo(segments[i + 2], segments[i + 3]);
+        }
+
+        c.drawPath(mDashedLinesPath, paint);
+    }
+
+    /**
+     * Transforms the limits of the given LimitLines to pixels at once and
+     * returns them in mLimitLinePixels (one value per LimitLine). Disabled
+     * LimitLines and LimitLines outside of the content area are NaN.
+     *
+     * @param limitLines
+     * @param vertical   true if the lines are vertical (limit is an x-value)
+     * @return
+     */
+    protected float[] computeLimitLinePixels(List<LimitLine> limitLines, boolean vertical) {
+
+        final int count = limitLines.size();
+
+        float[] pts = getLineSegmentsBuffer((count + 1) / 2);
+
+        for (int i = 0; i < count; i++) {
+            pts[i * 2] = vertical ? limitLines.get(i).getLimit() : 0f;
+            pts[i * 2 + 1] = vertical ? 0f : limitLines.get(i).getLimit();
+        }
+
+        mTrans.pointValuesToPixel(pts, 0, count * 2);
+
+        if (mLimitLinePixels.length < count) {
+            mLimitLinePixels = new float[count];
+            mLimitLineDrawn = new boolean[count];
+        }
+
+        final float min = vertical ? mViewPortHandler.contentLeft() : mViewPortHandler.contentTop();
+        final float max = vertical ? mViewPortHandler.contentRight() : mViewPortHandler.contentBottom();
+
+        for (int i = 0; i < count; i++) {
+
+            LimitLine l = limitLines.get(i);
+
+            float pixel = pts[i * 2 + (vertical ? 0 : 1)];
+            float halfWidth = l.getLineWidth() / 2f;
+
+            if (!l.isEnabled() || pixel + halfWidth < min || pixel - halfWidth > max)
+                pixel = Float.NaN;
+
+            mLimitLinePixels[i] = pixel;
+        }
+
+        return mLimitLinePixels;
+    }
+
+    /**
+     * Draws the lines of the given LimitLines at the pixel positions
+     * calculated by computeLimitLinePixels(...). LimitLines with the same
+     * color, width and PathEffect are drawn with one call.
+     *
+     * @param c
+     * @param limitLines
+     * @param pixels
+     * @param vertical   true if the lines are vertical
+     */
+    protected void renderLimitLineLines(Canvas c, List<LimitLine> limitLines, float[] pixels,
+                                        boolean vertical) {
+
+        final int count = limitLines.size();
+
+        for (int i = 0; i < count; i++)
+            mLimitLineDrawn[i] = Float.isNaN(pixels[i]);
+
+        mLimitLinePaint.setStyle(Paint.Style.STROKE);
+
+        for (int i = 0; i < count; i++) {
+
+            if (mLimitLineDrawn[i])
+                continue;
+
+            LimitLine l = limitLines.get(i);
+
+            mLimitLinePaint.setColor(l.getLineColor());
+            mLimitLinePaint.setStrokeWidth(l.getLineWidth());
+            mLimitLinePaint.setPathEffect(l.getDashPathEffect());
+
+            float[] segments = getLineSegmentsBuffer(count - i);
+            int size = 0;
+
+            // collect all following lines of the same style
+            for (int j = i; j < count; j++) {
+
+                if (mLimitLineDrawn[j])
+                    continue;
+
+                LimitLine other = limitLines.get(j);
+
+                if (other.getLineColor() != l.getLineColor()
+                        || other.getLineWidth() != l.getLineWidth()
+                        || other.getDashPathEffect() != l.getDashPathEffect())
+                    continue;
+
+                if (vertical) {
+                    segments[size++] = pixels[j];
+                    segments[size++] = mViewPortHandler.contentTop();
+                    segments[size++] = pixels[j];
+                    segments[size++] = mViewPortHandler.contentBottom();
+                } else {
+                    segments[size++] = mViewPortHandler.contentLeft();
+                    segments[size++] = pixels[j];
+                    segments[size++] = mViewPortHandler.contentRight();
+                    segments[size++] = pixels[j];
+                }
+
+                mLimitLineDrawn[j] = true;
+            }
+
+            drawLineSegments(c, segments, size, mLimitLinePaint);
+        }
+    }
 }
@@ -32,6 +32,27 @@ public class BarChartRenderer extends DataRenderer {
 
     protected Paint mShadowPaint;
 
+    /** buffer for the positions of the values of one stacked entry */
+    protected float[] mStackValuePoints = new float[0];
+
+    /** buffers for drawing the highlight arrow */
+    protected float[] mMatrixValues = new float[9];
+    protected Path mHighlightArrowPath = new Path();
+
+    /**
+     * Returns mStackValuePoints with exactly the given size.
+     *
+     * @param size
+     * @return
+     */
+    protected float[] getStackValuePoints(int size) {
+
+        if (mStackValuePoints.length != size)
+            mStackValuePoints = new float[size];
+
+        return mStackValuePoints;
+    }
+
     public BarChartRenderer(BarDataProvider chart, ChartAnimator animator,
             ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -94,56 +115,180 @@ public class BarChartRenderer extends DataRenderer {
         buffer.setDataSet(index);
         buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
 
+        // only feed the entries within the bounds if they have been set
+        int from = 0;
+        int to = entries.size();
+
+        if (mXBoundsSet) {
+            from = Math.max(dataSet.getEntryIndex(mMinX), 0);
+            to = Math.min(dataSet.getEntryIndex(mMaxX) + 1, entries.size());
+        }
+
+        buffer.limitFrom(from);
+        buffer.limitTo(to);
         buffer.feed(entries);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        int size = Math.min((to - from) * 4 * dataSet.getStackSize(), buffer.size());
 
-        // if multiple colors
-        if (dataSet.getColors().size() > 1) {
+        // the index of the first fed bar, for retrieving its color
+        int colorOffset = from * dataSet.getStackSize();
 
-            for (int j = 0; j < buffer.size(); j += 4) {
+        trans.pointValuesToPixel(buffer.buffer, 0, size);
 
-                if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
-                    continue;
+        // the bars are collected as rects, so that they can be drawn grouped
+        // by color
+        beginColorSegments(size / 4);
+
+        for (int j = 0; j < size; j += 4) {
+
+            if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
+                continue;
+
+            if (!mViewPortHandler.isInBoundsRight(buffer.buffer[j]))
+                break;
+
+            // If the index is out of bounds of the colors, colors are reused.
+            addColorSegment(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
+                    buffer.buffer[j + 3], j / 4 + colorOffset);
+        }
+
+        drawBars(c, dataSet, true);
+    }
+
+    /**
+     * Draws the collected bars (and their shadows). If no two bars of the
+     * DataSet touch the same pixel, the shadows are drawn first and then the
+     * bars grouped by color, so that the color of the paint only changes once
+     * per color. Otherwise the shadows and bars are drawn in their original
+     * order. The result is the same either way.
+     *
+     * @param c
+     * @param dataSet
+     * @param vertical true if the bars are vertical, false if horizontal
+     */
+    protected void drawBars(Canvas c, BarDataSet dataSet, boolean vertical) {
+
+        int count = mColorSegmentCount;
+
+        if (count == 0)
+            return;
+
+        List<Integer> colors = dataSet.getColors();
+        int colorCount = colors.size();
+
+        boolean drawShadows = mChart.isDrawBarShadowEnabled();
+        float[] rects = mColorSegments;
+
+        if (colorCount == 1 || !areBarsApart(vertical)) {
+
+            int currentColor = 0;
+
+            for (int i = 0; i < count; i++) {
 
-                if (!mViewPortHandler.isInBoundsRight(buffer.buffer[j]))
-                    break;
+                int j = i * 4;
 
-                if (mChart.isDrawBarShadowEnabled()) {
-                    c.drawRect(buffer.buffer[j], mViewPortHandler.contentTop(),
-                            buffer.buffer[j + 2],
-                            mViewPortHandler.contentBottom(), mShadowPaint);
+                if (drawShadows)
+                    drawBarShadow(c, rects, j, vertical);
+
+                int color = colors.get(mColorSegmentIndices[i] % colorCount);
+
+                if (i == 0 || color != currentColor) {
+                    mRenderPaint.setColor(color);
+                    currentColor = color;
                 }
 
-                // Set the color for the currently drawn value. If the index
-                // is
-                // out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
-                c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                        buffer.buffer[j + 3], mRenderPaint);
+                c.drawRect(rects[j], rects[j + 1], rects[j + 2], rects[j + 3], mRenderPaint);
             }
-        } else {
 
-            mRenderPaint.setColor(dataSet.getColor());
+            mColorSegmentCount = 0;
+            return;
+        }
+
+        // each shadow only overlaps its own bar
+        if (drawShadows) {
+            for (int j = 0; j < count * 4; j += 4)
+                drawBarShadow(c, rects, j, vertical);
+        }
 
-            for (int j = 0; j < buffer.size(); j += 4) {
+        sortColorSegments(colorCount);
 
-                if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
-                    continue;
+        float[] sorted = mColorSortedSegments;
+        int from = 0;
 
-                if (!mViewPortHandler.isInBoundsRight(buffer.buffer[j]))
-                    break;
+        for (int i = 0; i < colorCount; i++) {
 
-                if (mChart.isDrawBarShadowEnabled()) {
-                    c.drawRect(buffer.buffer[j], mViewPortHandler.contentTop(),
-                            buffer.buffer[j + 2],
-                            mViewPortHandler.contentBottom(), mShadowPaint);
-                }
+            int to = mColorSegmentOffsets[i];
+
+            if (to > from) {
 
-                c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                        buffer.buffer[j + 3], mRenderPaint);
+                mRenderPaint.setColor(colors.get(i));
+
+                for (int j = from * 4; j < to * 4; j += 4)
+                    c.drawRect(sorted[j], sorted[j + 1], sorted[j + 2], sorted[j + 3],
+                            mRenderPaint);
             }
+
+            from = to;
         }
+
+        mColorSegmentCount = 0;
+    }
+
+    /**
+     * Draws the shadow of the collected bar starting at the given index of
+     * the rects.
+     *
+     * @param c
+     * @param rects
+     * @param index
+     * @param vertical
+     */
+    protected void drawBarShadow(Canvas c, float[] rects, int index, boolean vertical) {
+
+        if (vertical)
+            c.drawRect(rects[index], mViewPortHandler.contentTop(), rects[index + 2],
+                    mViewPortHandler.contentBottom(), mShadowPaint);
+        else
+            c.drawRect(mViewPortHandler.contentLeft(), rects[index + 1],
+                    mViewPortHandler.contentRight(), rects[index + 3], mShadowPaint);
+    }
+
+    /**
+     * Returns true if the collected bars are ordered along the x-axis (the
+     * y-axis if horizontal) and no two of them touch the same pixel, taking
+     * anti-aliasing into account. Only then the order they are drawn in does
+     * not matter. This is not the case e.g. for stacked bars or bars without
+     * space in between.
+     *
+     * @param vertical
+     * @return
+     */
+    protected boolean areBarsApart(boolean vertical) {
+
+        float[] rects = mColorSegments;
+
+        int start = vertical ? 0 : 1;
+        int end = vertical ? 2 : 3;
+
+        // 1 if the bars are ordered ascending, -1 if descending
+        int direction = 0;
+
+        for (int j = 4; j < mColorSegmentCount * 4; j += 4) {
+
+            double prevStart = Math.floor(Math.min(rects[j - 4 + start], rects[j - 4 + end]));
+            double prevEnd = Math.ceil(Math.max(rects[j - 4 + start], rects[j - 4 + end]));
+            double curStart = Math.floor(Math.min(rects[j + start], rects[j + end]));
+            double curEnd = Math.ceil(Math.max(rects[j + start], rects[j + end]));
+
+            if (direction >= 0 && prevEnd <= curStart)
+                direction = 1;
+            else if (direction <= 0 && curEnd <= prevStart)
+                direction = -1;
+            else
+                return false;
+        }
+
+        return true;
     }
 
     /**
@@ -172,6 +317,9 @@ public class BarChartRenderer extends DataRenderer {
 
     @Override
     public void drawValues(Canvas c) {
+
+        prepareValueLabelCulling();
+
         // if values are drawn
         if (passesCheck()) {
 
@@ -210,11 +358,12 @@ public class BarChartRenderer extends DataRenderer {
                 List<BarEntry> entries = dataSet.getYVals();
 
                 float[] valuePoints = getTransformedValues(trans, entries, i);
+                final int valueCount = trans.getTransformedValueCount();
 
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < valuePoints.length * mAnimator.getPhaseX(); j += 2) {
+                    for (int j = 0; j < valueCount * mAnimator.getPhaseX(); j += 2) {
 
                         if (!mViewPortHandler.isInBoundsRight(valuePoints[j]))
                             break;
@@ -226,14 +375,14 @@ public class BarChartRenderer extends DataRenderer {
                         BarEntry entry = entries.get(j / 2);
                         float val = entry.getVal();
 
-                        drawValue(c, dataSet.getValueFormatter(), val, entry, i, valuePoints[j],
+                        drawValue(c, dataSet, j / 2, val, entry, i, valuePoints[j],
                                 valuePoints[j + 1] + (val >= 0 ? posOffset : negOffset));
                     }
 
                     // if we have stacks
                 } else {
 
-                    for (int j = 0; j < (valuePoints.length - 1) * mAnimator.getPhaseX(); j += 2) {
+                    for (int j = 0; j < (valueCount - 1) * mAnimator.getPhaseX(); j += 2) {
 
                         BarEntry entry = entries.get(j / 2);
 
@@ -251,13 +400,13 @@ public class BarChartRenderer extends DataRenderer {
                                     || !mViewPortHandler.isInBoundsLeft(valuePoints[j]))
                                 continue;
 
-                            drawValue(c, dataSet.getValueFormatter(), entry.getVal(), entry, i, valuePoints[j],
+                            drawValue(c, dataSet, j / 2, entry.getVal(), entry, i, valuePoints[j],
                                     valuePoints[j + 1] + (entry.getVal() >= 0 ? posOffset : negOffset));
 
                             // draw stack values
                         } else {
 
-                            float[] transformed = new float[vals.length * 2];
+                            float[] transformed = getStackValuePoints(vals.length * 2);
 
                             float posY = 0f;
                             float negY = -entry.getNegativeSum();
@@ -363,7 +512,7 @@ public class BarChartRenderer extends DataRenderer {
                     // distance between highlight arrow and bar
                     float offsetY = mAnimator.getPhaseY() * 0.07f;
 
-                    float[] values = new float[9];
+                    float[] values = mMatrixValues;
                     trans.getPixelToValueMatrix().getValues(values);
                     final float xToYRel = Math.abs(values[Matrix.MSCALE_Y] / values[Matrix.MSCALE_X]);
 
@@ -372,7 +521,8 @@ public class BarChartRenderer extends DataRenderer {
 
                     final float yArrow = (y1 > -y2 ? y1 : y1) * mAnimator.getPhaseY();
 
-                    Path arrow = new Path();
+                    Path arrow = mHighlightArrowPath;
+                    arrow.reset();
                     arrow.moveTo(x + 0.4f, yArrow + offsetY);
                     arrow.lineTo(x + 0.4f + arrowWidth, yArrow + offsetY - arrowHeight);
                     arrow.lineTo(x + 0.4f + arrowWidth, yArrow + offsetY + arrowHeight);
@@ -392,8 +542,8 @@ public class BarChartRenderer extends DataRenderer {
     }
 
     protected boolean passesCheck() {
-        return mChart.getBarData().getYValCount() < mChart.getMaxVisibleCount()
-                * mViewPortHandler.getScaleX();
+        return isDrawingValuesAllowed(mChart.getBarData().getYValCount(),
+                mChart.getMaxVisibleCount());
     }
 
     @Override
@@ -123,9 +123,10 @@ public class BubbleChartRenderer extends DataRenderer {
         if (bubbleData == null)
             return;
 
+        prepareValueLabelCulling();
+
         // if values are drawn
-        if (bubbleData.getYValCount() < (int) (Math.ceil((float) (mChart.getMaxVisibleCount())
-                * mViewPortHandler.getScaleX()))) {
+        if (isDrawingValuesAllowed(bubbleData.getYValCount(), mChart.getMaxVisibleCount())) {
 
             final List<BubbleDataSet> dataSets = bubbleData.getDataSets();
 
@@ -159,10 +160,12 @@ public class BubbleChartRenderer extends DataRenderer {
                 int minx = dataSet.getEntryPosition(entryFrom);
                 int maxx = Math.min(dataSet.getEntryPosition(entryTo) + 1, dataSet.getEntryCount());
 
-                final float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesBubble(entries, phaseX, phaseY, minx, maxx);
+                final Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+                final float[] positions = trans.generateTransformedValuesBubble(entries, phaseX,
+                        phaseY, minx, maxx);
+                final int count = trans.getTransformedValueCount();
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < count; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -175,7 +178,7 @@ public class BubbleChartRenderer extends DataRenderer {
 
                     BubbleEntry entry = entries.get(j / 2 + minx);
 
-                    drawValue(c, dataSet.getValueFormatter(), entry.getSize(), entry, i, x,
+                    drawValue(c, dataSet, j / 2 + minx, entry.getSize(), entry, i, x,
                             y + (0.5f * lineHeight));
                 }
             }
@@ -220,9 +220,11 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
     @Override
     public void drawValues(Canvas c) {
 
+        prepareValueLabelCulling();
+
         // if values are drawn
-        if (mChart.getCandleData().getYValCount() < mChart.getMaxVisibleCount()
-                * mViewPortHandler.getScaleX()) {
+        if (isDrawingValuesAllowed(mChart.getCandleData().getYValCount(),
+                mChart.getMaxVisibleCount())) {
 
             List<CandleDataSet> dataSets = mChart.getCandleData().getDataSets();
 
@@ -245,10 +247,11 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 float[] positions = trans.generateTransformedValuesCandle(
                         entries, mAnimator.getPhaseX(), mAnimator.getPhaseY(), minx, maxx);
+                final int count = trans.getTransformedValueCount();
 
                 float yOffset = Utils.convertDpToPixel(5f);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < count; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -261,7 +264,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                     CandleEntry entry = entries.get(j / 2 + minx);
 
-                    drawValue(c, dataSet.getValueFormatter(), entry.getHigh(), entry, i, x, y - yOffset);
+                    drawValue(c, dataSet, j / 2 + minx, entry.getHigh(), entry, i, x, y - yOffset);
                 }
             }
         }
@@ -298,9 +301,9 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
             float max = mChart.getYChartMax();
 
 
-            float[] pts = new float[] {
-                    xIndex, y
-            };
+            float[] pts = mHighlightPoint;
+            pts[0] = xIndex;
+            pts[1] = y;
 
             mChart.getTransformer(set.getAxisDependency()).pointValuesToPixel(pts);
 
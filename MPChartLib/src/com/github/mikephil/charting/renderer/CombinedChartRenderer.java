@@ -72,41 +72,62 @@ public class CombinedChartRenderer extends DataRenderer {
 	@Override
 	public void initBuffers() {
 
-		for (DataRenderer renderer : mRenderers)
-			renderer.initBuffers();
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).initBuffers();
 	}
 
 	@Override
 	public void drawData(Canvas c) {
 
-		for (DataRenderer renderer : mRenderers)
-			renderer.drawData(c);
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).drawData(c);
 	}
 
 	@Override
 	public void drawValues(Canvas c) {
 
-		for (DataRenderer renderer : mRenderers)
-			renderer.drawValues(c);
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).drawValues(c);
 	}
 
 	@Override
 	public void drawExtras(Canvas c) {
 
-		for (DataRenderer renderer : mRenderers)
-			renderer.drawExtras(c);
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).drawExtras(c);
+	}
+
+	@Override
+	public void releaseBitmap() {
+
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).releaseBitmap();
 	}
 
 	@Override
 	public void drawHighlighted(Canvas c, Highlight[] indices) {
-		for (DataRenderer renderer : mRenderers)
-			renderer.drawHighlighted(c, indices);
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).drawHighlighted(c, indices);
 	}
 
 	@Override
 	public void calcXBounds(BarLineScatterCandleBubbleDataProvider chart, int xAxisModulus) {
-		for (DataRenderer renderer : mRenderers)
-			renderer.calcXBounds(chart, xAxisModulus);
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).calcXBounds(chart, xAxisModulus);
+	}
+
+	@Override
+	public void setXBounds(int min, int max) {
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).setXBounds(min, max);
+	}
+
+	@Override
+	public void setValueLabelCullingEnabled(boolean enabled) {
+		super.setValueLabelCullingEnabled(enabled);
+
+		for (int i = 0; i < mRenderers.size(); i++)
+			mRenderers.get(i).setValueLabelCullingEnabled(enabled);
 	}
 
 	/**
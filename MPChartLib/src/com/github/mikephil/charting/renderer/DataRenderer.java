@@ -10,11 +10,15 @@ import android.graphics.Paint.Style;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.CharValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.utils.OccupancyGrid;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.List;
+
 /**
  * Superclass of all render classes for the different data types (line, bar, ...).
  *
@@ -45,6 +49,40 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * the chars of the value-label that is drawn, see formatValue(...)
+     */
+    protected char[] mValueChars = new char[CharValueFormatter.MAX_LENGTH];
+
+    /**
+     * if true, value-labels overlapping already drawn labels are skipped
+     */
+    protected boolean mValueLabelCullingEnabled = false;
+
+    /**
+     * the areas occupied by the value-labels drawn in the current frame, null
+     * while culling is disabled
+     */
+    protected OccupancyGrid mValueLabelGrid = null;
+
+    /**
+     * line segments (x0, y0, x1, y1) or rects (left, top, right, bottom)
+     * collected to be drawn grouped by color, and the color index of each of
+     * them
+     */
+    protected float[] mColorSegments = new float[0];
+    protected int[] mColorSegmentIndices = new int[0];
+    protected int mColorSegmentCount = 0;
+
+    /** the collected segments sorted by color, see sortColorSegments(...) */
+    protected float[] mColorSortedSegments = new float[0];
+
+    /**
+     * the number of segments per color while sorting, the end of the sorted
+     * segments of each color afterwards
+     */
+    protected int[] mColorSegmentOffsets = new int[0];
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -107,6 +145,125 @@ public abstract class DataRenderer extends Renderer {
         mValuePaint.setTextSize(set.getValueTextSize());
     }
 
+    /**
+     * Prepares the collection of line segments that are drawn grouped by
+     * color by drawColorSegments(...).
+     *
+     * @param maxCount the maximum number of segments that will be added
+     */
+    protected void beginColorSegments(int maxCount) {
+
+        if (mColorSegmentIndices.length < maxCount) {
+            mColorSegments = new float[maxCount * 4];
+            mColorSegmentIndices = new int[maxCount];
+            mColorSortedSegments = new float[maxCount * 4];
+        }
+
+        mColorSegmentCount = 0;
+    }
+
+    /**
+     * Adds a line segment that is drawn with the color at the given index of
+     * the DataSet's colors.
+     *
+     * @param x0
+     * @param y0
+     * @param x1
+     * @param y1
+     * @param colorIndex
+     */
+    protected void addColorSegment(float x0, float y0, float x1, float y1, int colorIndex) {
+
+        int i = mColorSegmentCount * 4;
+
+        mColorSegments[i] = x0;
+        mColorSegments[i + 1] = y0;
+        mColorSegments[i + 2] = x1;
+        mColorSegments[i + 3] = y1;
+        mColorSegmentIndices[mColorSegmentCount] = colorIndex;
+        mColorSegmentCount++;
+    }
+
+    /**
+     * Draws all collected line segments with one drawLines(...) call per
+     * color of the DataSet, so that the color of the paint only changes once
+     * per color instead of once per segment. The segments of one color keep
+     * their order.
+     *
+     * @param c
+     * @param set
+     * @param paint
+     */
+    protected void drawColorSegments(Canvas c, DataSet<?> set, Paint paint) {
+
+        int count = mColorSegmentCount;
+
+        if (count == 0)
+            return;
+
+        List<Integer> colors = set.getColors();
+        int colorCount = colors.size();
+
+        sortColorSegments(colorCount);
+
+        int[] offsets = mColorSegmentOffsets;
+        int from = 0;
+
+        for (int i = 0; i < colorCount; i++) {
+
+            int color = colors.get(i);
+
+            // draw subsequent equal colors at once
+            if (i < colorCount - 1 && colors.get(i + 1) == color)
+                continue;
+
+            int to = offsets[i];
+
+            if (to > from) {
+                paint.setColor(color);
+                c.drawLines(mColorSortedSegments, from * 4, (to - from) * 4, paint);
+            }
+
+            from = to;
+        }
+
+        mColorSegmentCount = 0;
+    }
+
+    /**
+     * Sorts the collected segments by the color they are drawn with into
+     * mColorSortedSegments, the segments of one color keep their order.
+     * Afterwards mColorSegmentOffsets[i] is the end of the segments of color
+     * i (and the start of the ones of color i + 1).
+     *
+     * @param colorCount the number of colors of the DataSet
+     */
+    protected void sortColorSegments(int colorCount) {
+
+        int count = mColorSegmentCount;
+
+        if (mColorSegmentOffsets.length < colorCount + 1)
+            mColorSegmentOffsets = new int[colorCount + 1];
+
+        int[] offsets = mColorSegmentOffsets;
+
+        for (int i = 0; i <= colorCount; i++)
+            offsets[i] = 0;
+
+        // counting sort of the segments by the color they are drawn with
+        for (int i = 0; i < count; i++)
+            offsets[mColorSegmentIndices[i] % colorCount + 1]++;
+
+        for (int i = 0; i < colorCount; i++)
+            offsets[i + 1] += offsets[i];
+
+        for (int i = 0; i < count; i++) {
+
+            int to = offsets[mColorSegmentIndices[i] % colorCount]++ * 4;
+            System.arraycopy(mColorSegments, i * 4, mColorSortedSegments, to, 4);
+        }
+    }
+
     /**
      * Initializes the buffers used for rendering with a new size. Since this
      * method performs memory allocations, it should only be called if
@@ -128,6 +285,14 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void drawValues(Canvas c);
 
+    /**
+     * Releases the offscreen bitmaps held by this renderer, e.g. when the
+     * chart is detached from its window or memory gets low. Renderers obtain
+     * them again with the next draw that needs them.
+     */
+    public void releaseBitmap() {
+    }
+
     /**
      * Draws the value of the given entry by using the provided ValueFormatter.
      *
@@ -140,7 +305,178 @@ public abstract class DataRenderer extends Renderer {
      * @param y            position
      */
     public void drawValue(Canvas c, ValueFormatter formatter, float value, Entry entry, int dataSetIndex, float x, float y) {
-        c.drawText(formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler), x, y, mValuePaint);
+
+        if (isValueLabelCulled(x, y))
+            return;
+
+        int length;
+
+        if (formatter instanceof CharValueFormatter) {
+            length = ((CharValueFormatter) formatter).formatValue(value, mValueChars);
+        } else {
+            String label = formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler);
+
+            if (mValueChars.length < label.length())
+                mValueChars = new char[label.length()];
+
+            label.getChars(0, label.length(), mValueChars, 0);
+            length = label.length();
+        }
+
+        drawValueChars(c, length, x, y);
+    }
+
+    /**
+     * Draws the value of the entry at the given index of the DataSet. The
+     * formatted label is taken from the value-label cache of the DataSet.
+     *
+     * @param c            canvas
+     * @param dataSet      the DataSet the drawn Entry belongs to
+     * @param entryIndex   the index of the entry in the DataSet, -1 to bypass the cache
+     * @param value        the value to be drawn
+     * @param entry        the entry the value belongs to
+     * @param dataSetIndex the index of the DataSet the drawn Entry belongs to
+     * @param x            position
+     * @param y            position
+     */
+    public void drawValue(Canvas c, DataSet<?> dataSet, int entryIndex, float value, Entry entry, int dataSetIndex, float x, float y) {
+
+        if (isValueLabelCulled(x, y))
+            return;
+
+        int length = formatValue(dataSet, entryIndex, value, entry, dataSetIndex);
+        drawValueChars(c, length, x, y);
+    }
+
+    /**
+     * Draws the first length chars of mValueChars at the given position,
+     * unless culling is enabled and the label would overlap a label that is
+     * already drawn.
+     *
+     * @param c
+     * @param length
+     * @param x
+     * @param y
+     */
+    protected void drawValueChars(Canvas c, int length, float x, float y) {
+
+        if (mValueLabelCullingEnabled) {
+
+            // not cached, dense labels would only push the axis labels out of
+            // the shared measurement cache
+            float width = mValuePaint.measureText(mValueChars, 0, length);
+            float left;
+
+            switch (mValuePaint.getTextAlign()) {
+                case LEFT:
+                    left = x;
+                    break;
+                case RIGHT:
+                    left = x - width;
+                    break;
+                default:
+                    left = x - width / 2f;
+                    break;
+            }
+
+            if (!mValueLabelGrid.tryOccupy(left, y - mValuePaint.getTextSize(), left + width, y))
+                return;
+        }
+
+        c.drawText(mValueChars, 0, length, x, y, mValuePaint);
+    }
+
+    /**
+     * Returns true if culling is enabled and a value-label drawn at the given
+     * position would certainly overlap a label that is already drawn. Allows
+     * to skip formatting and measuring the label.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected boolean isValueLabelCulled(float x, float y) {
+        return mValueLabelCullingEnabled
+                && mValueLabelGrid.isOccupied(x, y - mValuePaint.getTextSize() / 2f);
+    }
+
+    /**
+     * Prepares the culling of overlapping value-labels for a new frame, needs
+     * to be called at the beginning of drawValues(...).
+     */
+    protected void prepareValueLabelCulling() {
+
+        if (mValueLabelCullingEnabled)
+            mValueLabelGrid.reset((int) mViewPortHandler.getChartWidth(),
+                    (int) mViewPortHandler.getChartHeight());
+    }
+
+    /**
+     * Returns true if the values of the given number of entries should be
+     * drawn. Either culling is enabled, or there are less entries than the
+     * maximum visible count (multiplied with the zoom level).
+     *
+     * @param yValCount
+     * @param maxVisibleCount
+     * @return
+     */
+    protected boolean isDrawingValuesAllowed(int yValCount, int maxVisibleCount) {
+        return mValueLabelCullingEnabled
+                || yValCount < maxVisibleCount * mViewPortHandler.getScaleX();
+    }
+
+    /**
+     * If set to true, value-labels that would overlap labels already drawn
+     * in the same frame are skipped, and values are drawn no matter how many
+     * entries are visible. Default: false
+     *
+     * @param enabled
+     */
+    public void setValueLabelCullingEnabled(boolean enabled) {
+
+        mValueLabelCullingEnabled = enabled;
+
+        if (enabled && mValueLabelGrid == null)
+            mValueLabelGrid = new OccupancyGrid((int) Utils.convertDpToPixel(3f));
+    }
+
+    /**
+     * Returns true if overlapping value-labels are skipped.
+     *
+     * @return
+     */
+    public boolean isValueLabelCullingEnabled() {
+        return mValueLabelCullingEnabled;
+    }
+
+    /**
+     * Writes the formatted value-label of the entry at the given index of the
+     * DataSet into mValueChars. Formatters implementing CharValueFormatter
+     * write into it directly, the labels of all other formatters are taken
+     * from the value-label cache of the DataSet.
+     *
+     * @param dataSet      the DataSet the Entry belongs to
+     * @param entryIndex   the index of the entry in the DataSet, -1 to bypass the cache
+     * @param value        the value to be formatted
+     * @param entry        the entry the value belongs to
+     * @param dataSetIndex the index of the DataSet the Entry belongs to
+     * @return the number of chars of the label
+     */
+    protected int formatValue(DataSet<?> dataSet, int entryIndex, float value, Entry entry, int dataSetIndex) {
+
+        ValueFormatter formatter = dataSet.getValueFormatter();
+
+        if (formatter instanceof CharValueFormatter)
+            return ((CharValueFormatter) formatter).formatValue(value, mValueChars);
+
+        String label = dataSet.getFormattedValue(entryIndex, value, entry, dataSetIndex, mViewPortHandler);
+
+        if (mValueChars.length < label.length())
+            mValueChars = new char[label.length()];
+
+        label.getChars(0, label.length(), mValueChars, 0);
+
+        return label.length();
     }
 
     /**
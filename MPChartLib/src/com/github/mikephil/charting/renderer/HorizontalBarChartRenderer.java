@@ -13,7 +13,6 @@ import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.interfaces.BarDataProvider;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
-import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.List;
@@ -68,6 +67,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
         trans.pointValuesToPixel(buffer.buffer);
 
+        // the bars are collected as rects, so that they can be drawn grouped
+        // by color
+        beginColorSegments(buffer.size() / 4);
+
         for (int j = 0; j < buffer.size(); j += 4) {
 
             if (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 3]))
@@ -76,23 +79,19 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                 continue;
 
-            if (mChart.isDrawBarShadowEnabled()) {
-                c.drawRect(mViewPortHandler.contentLeft(), buffer.buffer[j + 1],
-                        mViewPortHandler.contentRight(),
-                        buffer.buffer[j + 3], mShadowPaint);
-            }
-
-            // Set the color for the currently drawn value. If the index
-            // is
-            // out of bounds, reuse colors.
-            mRenderPaint.setColor(dataSet.getColor(j / 4));
-            c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-                    buffer.buffer[j + 3], mRenderPaint);
+            // If the index is out of bounds of the colors, colors are reused.
+            addColorSegment(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
+                    buffer.buffer[j + 3], j / 4);
         }
+
+        drawBars(c, dataSet, false);
     }
 
     @Override
     public void drawValues(Canvas c) {
+
+        prepareValueLabelCulling();
+
         // if values are drawn
         if (passesCheck()) {
 
@@ -116,18 +115,17 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 applyValueTextStyle(dataSet);
                 final float halfTextHeight = Utils.calcTextHeight(mValuePaint, "10") / 2f;
 
-                ValueFormatter formatter = dataSet.getValueFormatter();
-
                 Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                 List<BarEntry> entries = dataSet.getYVals();
 
                 float[] valuePoints = getTransformedValues(trans, entries, i);
+                final int valueCount = trans.getTransformedValueCount();
 
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < valuePoints.length * mAnimator.getPhaseX(); j += 2) {
+                    for (int j = 0; j < valueCount * mAnimator.getPhaseX(); j += 2) {
 
                         if (!mViewPortHandler.isInBoundsTop(valuePoints[j + 1]))
                             break;
@@ -140,10 +138,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
                         BarEntry e = entries.get(j / 2);
                         float val = e.getVal();
-                        String formattedValue = formatter.getFormattedValue(val, e, i, mViewPortHandler);
+                        int length = formatValue(dataSet, j / 2, val, e, i);
 
                         // calculate the correct offset depending on the draw position of the value
-                        float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                        float valueTextWidth = (int) mValuePaint.measureText(mValueChars, 0, length);
                         posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                         negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -152,14 +150,14 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             negOffset = -negOffset - valueTextWidth;
                         }
 
-                        drawValue(c, formattedValue, valuePoints[j] + (val >= 0 ? posOffset : negOffset),
+                        drawValueChars(c, length, valuePoints[j] + (val >= 0 ? posOffset : negOffset),
                                 valuePoints[j + 1] + halfTextHeight);
                     }
 
                     // if each value of a potential stack should be drawn
                 } else {
 
-                    for (int j = 0; j < (valuePoints.length - 1) * mAnimator.getPhaseX(); j += 2) {
+                    for (int j = 0; j < (valueCount - 1) * mAnimator.getPhaseX(); j += 2) {
 
                         BarEntry e = entries.get(j / 2);
 
@@ -180,10 +178,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 continue;
 
                             float val = e.getVal();
-                            String formattedValue = formatter.getFormattedValue(val, e, i, mViewPortHandler);
+                            int length = formatValue(dataSet, j / 2, val, e, i);
 
                             // calculate the correct offset depending on the draw position of the value
-                            float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                            float valueTextWidth = (int) mValuePaint.measureText(mValueChars, 0, length);
                             posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                             negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -192,13 +190,13 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 negOffset = -negOffset - valueTextWidth;
                             }
 
-                            drawValue(c, formattedValue, valuePoints[j]
+                            drawValueChars(c, length, valuePoints[j]
                                     + (e.getVal() >= 0 ? posOffset : negOffset),
                                     valuePoints[j + 1] + halfTextHeight);
 
                         } else {
 
-                            float[] transformed = new float[vals.length * 2];
+                            float[] transformed = getStackValuePoints(vals.length * 2);
 
                             float posY = 0f;
                             float negY = -e.getNegativeSum();
@@ -224,10 +222,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             for (int k = 0; k < transformed.length; k += 2) {
 
                                 float val = vals[k / 2];
-                                String formattedValue = formatter.getFormattedValue(val, e, i, mViewPortHandler);
+                                int length = formatValue(dataSet, -1, val, e, i);
 
                                 // calculate the correct offset depending on the draw position of the value
-                                float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                                float valueTextWidth = (int) mValuePaint.measureText(mValueChars, 0, length);
                                 posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
                                 negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
 
@@ -249,7 +247,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 if (!mViewPortHandler.isInBoundsBottom(y))
                                     continue;
 
-                                drawValue(c, formattedValue, x, y + halfTextHeight);
+                                drawValueChars(c, length, x, y + halfTextHeight);
                             }
                         }
                     }
@@ -285,7 +283,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
     @Override
     protected boolean passesCheck() {
-        return mChart.getBarData().getYValCount() < mChart.getMaxVisibleCount()
+        return mValueLabelCullingEnabled
+                || mChart.getBarData().getYValCount() < mChart.getMaxVisibleCount()
                 * mViewPortHandler.getScaleY();
     }
 }
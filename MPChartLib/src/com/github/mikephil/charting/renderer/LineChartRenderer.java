@@ -4,16 +4,21 @@ package com.github.mikephil.charting.renderer;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.LinearGradient;
 import android.graphics.Paint;
 import android.graphics.Path;
+import android.graphics.Shader;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.CircleBuffer;
+import com.github.mikephil.charting.cache.BitmapPool;
+import com.github.mikephil.charting.cache.CircleSprites;
 import com.github.mikephil.charting.buffer.LineBuffer;
 import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.filter.DataPyramid;
 import com.github.mikephil.charting.interfaces.LineDataProvider;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.utils.Transformer;
@@ -32,7 +37,8 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
 
     /**
      * Bitmap object used for drawing the paths (otherwise they are too long if
-     * rendered directly on the canvas)
+     * rendered directly on the canvas), only held while cubic or dashed lines
+     * are drawn, taken from the BitmapPool
      */
     protected Bitmap mDrawBitmap;
 
@@ -45,10 +51,59 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
     protected Path cubicPath = new Path();
     protected Path cubicFillPath = new Path();
 
+    /**
+     * path that is reused for the fill of linear lines
+     */
+    protected Path mFillPath = new Path();
+
+    /**
+     * paint used for the fill below the lines
+     */
+    protected Paint mFillPaint;
+
+    /**
+     * buffer for the start, control and end points of the cubics of a spline
+     */
+    protected float[] mCubicBuffer = new float[0];
+
+    /**
+     * buffer for transforming the position of the fill line
+     */
+    private float[] mFillBuffer = new float[2];
+
     protected LineBuffer[] mLineBuffers;
 
     protected CircleBuffer[] mCircleBuffers;
 
+    /**
+     * pre-rendered circle indicators, one instance per DataSet
+     */
+    protected CircleSprites[] mCircleSprites = new CircleSprites[0];
+
+    /**
+     * buffer used for drawing the buckets of a DataPyramid level
+     */
+    protected float[] mPyramidBuffer = new float[0];
+
+    /**
+     * gradient shaders of the DataSets that are colored by value, and the
+     * pixel positions and colors they were created for
+     */
+    protected LinearGradient[] mGradientShaders = new LinearGradient[0];
+    private float[] mGradientShaderPositions = new float[0];
+    private int[][] mGradientShaderColors = new int[0][];
+
+    /** buffer for transforming the range of a gradient */
+    private float[] mGradientBuffer = new float[4];
+
+    /**
+     * gradient shaders of the fills, and the content area bounds and colors
+     * they were created for
+     */
+    protected LinearGradient[] mFillShaders = new LinearGradient[0];
+    private float[] mFillShaderPositions = new float[0];
+    private int[][] mFillShaderColors = new int[0][];
+
     public LineChartRenderer(LineDataProvider chart, ChartAnimator animator,
                              ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -57,6 +112,9 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
         mCirclePaintInner = new Paint(Paint.ANTI_ALIAS_FLAG);
         mCirclePaintInner.setStyle(Paint.Style.FILL);
         mCirclePaintInner.setColor(Color.WHITE);
+
+        mFillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mFillPaint.setStyle(Paint.Style.FILL);
     }
 
     @Override
@@ -71,6 +129,22 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
             mLineBuffers[i] = new LineBuffer(set.getEntryCount() * 4 - 4);
             mCircleBuffers[i] = new CircleBuffer(set.getEntryCount() * 2);
         }
+
+        for (CircleSprites sprites : mCircleSprites)
+            sprites.recycle();
+
+        mCircleSprites = new CircleSprites[mLineBuffers.length];
+
+        for (int i = 0; i < mCircleSprites.length; i++)
+            mCircleSprites[i] = new CircleSprites();
+
+        mGradientShaders = new LinearGradient[mLineBuffers.length];
+        mGradientShaderPositions = new float[mLineBuffers.length * 2];
+        mGradientShaderColors = new int[mLineBuffers.length][];
+
+        mFillShaders = new LinearGradient[mLineBuffers.length];
+        mFillShaderPositions = new float[mLineBuffers.length * 2];
+        mFillShaderColors = new int[mLineBuffers.length][];
     }
 
     @Override
@@ -79,29 +153,71 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        if (mDrawBitmap == null
-                || (mDrawBitmap.getWidth() != width)
-                || (mDrawBitmap.getHeight() != height)) {
+        if (width <= 0 || height <= 0)
+            return;
 
-            if (width > 0 && height > 0) {
+        LineData lineData = mChart.getLineData();
 
-                mDrawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
-                mBitmapCanvas = new Canvas(mDrawBitmap);
-            } else
-                return;
+        // the bitmap is only needed for cubic and dashed lines, otherwise it
+        // is handed back to the pool
+        if (needsDrawBitmap(lineData))
+            acquireDrawBitmap(width, height);
+        else
+            releaseDrawBitmap();
+
+        for (LineDataSet set : lineData.getDataSets()) {
+
+            if (set.isVisible() && set.getEntryCount() > 0)
+                drawDataSet(c, set);
         }
 
-        mDrawBitmap.eraseColor(Color.TRANSPARENT);
+        if (mDrawBitmap != null)
+            c.drawBitmap(mDrawBitmap, 0, 0, mRenderPaint);
+    }
 
-        LineData lineData = mChart.getLineData();
+    /**
+     * Returns true if any of the DataSets that are drawn is rendered into the
+     * draw-bitmap (cubic or dashed lines).
+     *
+     * @param lineData
+     * @return
+     */
+    protected boolean needsDrawBitmap(LineData lineData) {
 
         for (LineDataSet set : lineData.getDataSets()) {
 
-            if (set.isVisible() && set.getEntryCount() > 0)
-                drawDataSet(c, set);
+            if (set.isVisible() && set.getEntryCount() > 0
+                    && (set.isDrawCubicEnabled() || set.isDashedLineEnabled()))
+                return true;
         }
 
-        c.drawBitmap(mDrawBitmap, 0, 0, mRenderPaint);
+        return false;
+    }
+
+    /**
+     * Makes sure a transparent draw-bitmap with the given size is available,
+     * taken from the shared BitmapPool if there is none yet or the size
+     * changed.
+     *
+     * @param width
+     * @param height
+     */
+    protected void acquireDrawBitmap(int width, int height) {
+
+        if (mDrawBitmap != null && mDrawBitmap.getWidth() == width
+                && mDrawBitmap.getHeight() == height) {
+            mDrawBitmap.eraseColor(Color.TRANSPARENT);
+            return;
+        }
+
+        releaseDrawBitmap();
+
+        mDrawBitmap = BitmapPool.acquire(width, height, Bitmap.Config.ARGB_4444);
+
+        if (mBitmapCanvas == null)
+            mBitmapCanvas = new Canvas(mDrawBitmap);
+        else
+            mBitmapCanvas.setBitmap(mDrawBitmap);
     }
 
     protected void drawDataSet(Canvas c, LineDataSet dataSet) {
@@ -114,6 +230,9 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
         mRenderPaint.setStrokeWidth(dataSet.getLineWidth());
         mRenderPaint.setPathEffect(dataSet.getDashPathEffect());
 
+        if (dataSet.isGradientColorsEnabled())
+            mRenderPaint.setShader(getGradientShader(dataSet));
+
         // if drawing cubic lines is enabled
         if (dataSet.isDrawCubicEnabled()) {
 
@@ -125,6 +244,74 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
         }
 
         mRenderPaint.setPathEffect(null);
+        mRenderPaint.setShader(null);
+    }
+
+    /**
+     * Returns the vertical gradient shader that colors the line of the given
+     * DataSet by its values. The shader is only created again if the pixel
+     * positions of the gradient changed (zoom, y-axis range, ...) or the
+     * colors of the DataSet have been modified.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected LinearGradient getGradientShader(LineDataSet dataSet) {
+
+        int index = mChart.getLineData().getIndexOfDataSet(dataSet);
+
+        float[] values = dataSet.getGradientValues();
+        int[] colors = dataSet.getGradientColors();
+
+        float phaseY = mAnimator.getPhaseY();
+
+        float first = values[0];
+        float last = values[values.length - 1];
+
+        // if all values are equal, the gradient covers one pixel towards the
+        // higher values
+        boolean flat = first == last;
+
+        mGradientBuffer[0] = 0f;
+        mGradientBuffer[1] = first * phaseY;
+        mGradientBuffer[2] = 0f;
+        mGradientBuffer[3] = (flat ? first + 1f : last) * phaseY;
+
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+        trans.pointValuesToPixel(mGradientBuffer);
+
+        float y0 = mGradientBuffer[1];
+        float y1 = mGradientBuffer[3];
+
+        if (flat)
+            y1 = y0 + Math.signum(y1 - y0);
+
+        if (y1 == y0)
+            y1 = y0 - 1f;
+
+        if (mGradientShaders[index] != null
+                && mGradientShaderPositions[index * 2] == y0
+                && mGradientShaderPositions[index * 2 + 1] == y1
+                && mGradientShaderColors[index] == colors)
+            return mGradientShaders[index];
+
+        float[] positions = new float[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+
+            if (flat)
+                positions[i] = i / (float) (values.length - 1);
+            else
+                positions[i] = (values[i] - first) / (last - first);
+        }
+
+        mGradientShaders[index] = new LinearGradient(0f, y0, 0f, y1, colors, positions,
+                Shader.TileMode.CLAMP);
+        mGradientShaderPositions[index * 2] = y0;
+        mGradientShaderPositions[index * 2 + 1] = y1;
+        mGradientShaderColors[index] = colors;
+
+        return mGradientShaders[index];
     }
 
     /**
@@ -142,119 +329,138 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
         Entry entryTo = dataSet.getEntryForXIndex(mMaxX);
 
         int diff = (entryFrom == entryTo) ? 1 : 0;
-        int minx = Math.max(dataSet.getEntryPosition(entryFrom) - diff, 0);
+        int minx = Math.max(dataSet.getEntryIndex(entryFrom.getXIndex()) - diff, 0);
         int maxx = Math.min(Math.max(
-                minx + 2, dataSet.getEntryPosition(entryTo) + 1), entries.size());
+                minx + 2, dataSet.getEntryIndex(entryTo.getXIndex()) + 1), entries.size());
 
         float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
-
-        float intensity = dataSet.getCubicIntensity();
 
         cubicPath.reset();
 
         int size = (int) Math.ceil((maxx - minx) * phaseX + minx);
 
+        int count = 0;
+
         if (size - minx >= 2) {
 
-            float prevDx = 0f;
-            float prevDy = 0f;
-            float curDx = 0f;
-            float curDy = 0f;
+            // the spline is calculated and transformed once, both the line
+            // and the fill are built from it
+            count = generateCubicPoints(dataSet, entries, minx, size);
 
-            Entry prevPrev = entries.get(minx);
-            Entry prev = entries.get(minx);
-            Entry cur = entries.get(minx);
-            Entry next = entries.get(minx + 1);
+            trans.pointValuesToPixel(mCubicBuffer, 0, count);
 
-            // let the spline start
-            cubicPath.moveTo(cur.getXIndex(), cur.getVal() * phaseY);
+            float[] points = mCubicBuffer;
 
-            prevDx = (cur.getXIndex() - prev.getXIndex()) * intensity;
-            prevDy = (cur.getVal() - prev.getVal()) * intensity;
+            cubicPath.moveTo(points[0], points[1]);
 
-            curDx = (next.getXIndex() - cur.getXIndex()) * intensity;
-            curDy = (next.getVal() - cur.getVal()) * intensity;
+            for (int i = 2; i < count; i += 6) {
+                cubicPath.cubicTo(points[i], points[i + 1], points[i + 2], points[i + 3],
+                        points[i + 4], points[i + 5]);
+            }
+        }
 
-            // the first cubic
-            cubicPath.cubicTo(prev.getXIndex() + prevDx, (prev.getVal() + prevDy) * phaseY,
-                    cur.getXIndex() - curDx,
-                    (cur.getVal() - curDy) * phaseY, cur.getXIndex(), cur.getVal() * phaseY);
+        // if filled is enabled, close the path
+        if (dataSet.isDrawFilledEnabled() && count > 0) {
+            drawCubicFill(mBitmapCanvas, dataSet, mCubicBuffer, count, trans);
+        }
 
-            for (int j = minx + 1, count = Math.min(size, entries.size() - 1); j < count; j++) {
+        mRenderPaint.setColor(dataSet.getColor());
 
-                prevPrev = entries.get(j == 1 ? 0 : j - 2);
-                prev = entries.get(j - 1);
-                cur = entries.get(j);
-                next = entries.get(j + 1);
+        mRenderPaint.setStyle(Paint.Style.STROKE);
 
-                prevDx = (cur.getXIndex() - prevPrev.getXIndex()) * intensity;
-                prevDy = (cur.getVal() - prevPrev.getVal()) * intensity;
-                curDx = (next.getXIndex() - prev.getXIndex()) * intensity;
-                curDy = (next.getVal() - prev.getVal()) * intensity;
+        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
 
-                cubicPath.cubicTo(prev.getXIndex() + prevDx, (prev.getVal() + prevDy) * phaseY,
-                        cur.getXIndex() - curDx,
-                        (cur.getVal() - curDy) * phaseY, cur.getXIndex(), cur.getVal() * phaseY);
-            }
+        mRenderPaint.setPathEffect(null);
+    }
 
-            if (size > entries.size() - 1) {
+    /**
+     * Copies the start point and the control points and end points of all
+     * cubics of the spline through the entries from minx to size (in values,
+     * not yet transformed) into the cubic-buffer. The cubics are taken from
+     * the DataSet's cached cubic points, so only the visible ones are
+     * touched. Returns the number of values written, order: x,y, then
+     * c1x,c1y,c2x,c2y,x,y for each cubic.
+     *
+     * @param dataSet
+     * @param entries
+     * @param minx
+     * @param size
+     * @return
+     */
+    protected int generateCubicPoints(LineDataSet dataSet, List<Entry> entries, int minx,
+                                      int size) {
 
-                prevPrev = entries.get((entries.size() >= 3) ? entries.size() - 3
-                        : entries.size() - 2);
-                prev = entries.get(entries.size() - 2);
-                cur = entries.get(entries.size() - 1);
-                next = cur;
+        float phaseY = mAnimator.getPhaseY();
 
-                prevDx = (cur.getXIndex() - prevPrev.getXIndex()) * intensity;
-                prevDy = (cur.getVal() - prevPrev.getVal()) * intensity;
-                curDx = (next.getXIndex() - prev.getXIndex()) * intensity;
-                curDy = (next.getVal() - prev.getVal()) * intensity;
+        float[] cubics = dataSet.getCubicPoints();
 
-                // the last cubic
-                cubicPath.cubicTo(prev.getXIndex() + prevDx, (prev.getVal() + prevDy) * phaseY,
-                        cur.getXIndex() - curDx,
-                        (cur.getVal() - curDy) * phaseY, cur.getXIndex(), cur.getVal() * phaseY);
-            }
-        }
+        int end = Math.min(size, entries.size());
 
-        // if filled is enabled, close the path
-        if (dataSet.isDrawFilledEnabled()) {
+        // start point, the first cubic and the cubics ending at the entries
+        // after minx
+        int count = 2 + 6 + (end - minx - 1) * 6;
 
-            cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
-            // create a new path, this is bad for performance
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans,
-                    entryFrom.getXIndex(), entryFrom.getXIndex() + size);
-        }
+        if (mCubicBuffer.length < count)
+            mCubicBuffer = new float[count];
 
-        mRenderPaint.setColor(dataSet.getColor());
+        float[] points = mCubicBuffer;
 
-        mRenderPaint.setStyle(Paint.Style.STROKE);
+        Entry cur = entries.get(minx);
+        Entry next = entries.get(minx + 1);
 
-        trans.pathValueToPixel(cubicPath);
+        float curDx = (next.getXIndex() - cur.getXIndex()) * dataSet.getCubicIntensity();
+        float curDy = (next.getVal() - cur.getVal()) * dataSet.getCubicIntensity();
 
-        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
+        // let the spline start
+        points[0] = cur.getXIndex();
+        points[1] = cur.getVal();
 
-        mRenderPaint.setPathEffect(null);
+        // the first cubic
+        points[2] = cur.getXIndex();
+        points[3] = cur.getVal();
+        points[4] = cur.getXIndex() - curDx;
+        points[5] = cur.getVal() - curDy;
+        points[6] = cur.getXIndex();
+        points[7] = cur.getVal();
+
+        System.arraycopy(cubics, (minx + 1) * 6, points, 8, count - 8);
+
+        if (phaseY != 1f) {
+            for (int i = 1; i < count; i += 2)
+                points[i] *= phaseY;
+        }
+
+        return count;
     }
 
-    protected void drawCubicFill(Canvas c, LineDataSet dataSet, Path spline, Transformer trans,
-                                 int from, int to) {
+    /**
+     * Draws the fill below a cubic line.
+     *
+     * @param c
+     * @param dataSet
+     * @param points the transformed points of the spline, see
+     *            generateCubicPoints(...)
+     * @param count the number of values in points
+     * @param trans
+     */
+    protected void drawCubicFill(Canvas c, LineDataSet dataSet, float[] points, int count,
+                                 Transformer trans) {
 
-        if (to - from <= 1)
-            return;
+        float fillMin = getFillLinePixel(dataSet, trans);
 
-        float fillMin = dataSet.getFillFormatter()
-                .getFillLinePosition(dataSet, mChart);
+        cubicFillPath.reset();
+        cubicFillPath.moveTo(points[0], points[1]);
 
-        spline.lineTo(to - 1, fillMin);
-        spline.lineTo(from, fillMin);
-        spline.close();
+        for (int i = 2; i < count; i += 6) {
+            cubicFillPath.cubicTo(points[i], points[i + 1], points[i + 2], points[i + 3],
+                    points[i + 4], points[i + 5]);
+        }
 
-        trans.pathValueToPixel(spline);
+        cubicFillPath.lineTo(points[count - 2], fillMin);
+        cubicFillPath.lineTo(points[0], fillMin);
+        cubicFillPath.close();
 
-        drawFilledPath(c, spline, dataSet.getFillColor(), dataSet.getFillAlpha());
+        drawFilledPath(c, cubicFillPath, dataSet);
     }
 
     /**
@@ -288,9 +494,24 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
         Entry entryTo = dataSet.getEntryForXIndex(mMaxX);
 
         int diff = (entryFrom == entryTo) ? 1 : 0;
-        int minx = Math.max(dataSet.getEntryPosition(entryFrom) - diff, 0);
+        int minx = Math.max(dataSet.getEntryIndex(entryFrom.getXIndex()) - diff, 0);
         int maxx = Math.min(Math.max(
-                minx + 2, dataSet.getEntryPosition(entryTo) + 1), entries.size());
+                minx + 2, dataSet.getEntryIndex(entryTo.getXIndex()) + 1), entries.size());
+
+        // draw pre-aggregated buckets if there are way more entries visible
+        // than pixels available, two buckets per pixel are enough
+        if (dataSet.isPyramidEnabled() && phaseX == 1f && !dataSet.isDrawFilledEnabled()
+                && (dataSet.getColors().size() == 1 || dataSet.isGradientColorsEnabled())) {
+
+            DataPyramid.Level level = dataSet.getPyramid().getLevelForRange(maxx - minx,
+                    (int) (mViewPortHandler.contentWidth() * 2f));
+
+            if (level != null) {
+                drawPyramidLevel(canvas, dataSet, level, minx, maxx, trans);
+                mRenderPaint.setPathEffect(null);
+                return;
+            }
+        }
 
         int range = (maxx - minx) * 4 - 4;
 
@@ -300,10 +521,13 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
         buffer.limitTo(maxx);
         buffer.feed(entries);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        // only the fed part of the buffer needs to be transformed
+        trans.pointValuesToPixel(buffer.buffer, 0, range);
+
+        // more than 1 color, unless colored by a gradient
+        if (dataSet.getColors().size() > 1 && !dataSet.isGradientColorsEnabled()) {
 
-        // more than 1 color
-        if (dataSet.getColors().size() > 1) {
+            beginColorSegments(range / 4);
 
             for (int j = 0; j < range; j += 4) {
 
@@ -319,13 +543,13 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
                         .isInBoundsBottom(buffer.buffer[j + 3])))
                     continue;
 
-                // get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j / 4 + minx));
-
-                canvas.drawLine(buffer.buffer[j], buffer.buffer[j + 1],
-                        buffer.buffer[j + 2], buffer.buffer[j + 3], mRenderPaint);
+                // collect the line-segment with the color that is set for it
+                addColorSegment(buffer.buffer[j], buffer.buffer[j + 1],
+                        buffer.buffer[j + 2], buffer.buffer[j + 3], j / 4 + minx);
             }
 
+            drawColorSegments(canvas, dataSet, mRenderPaint);
+
         } else { // only one color per dataset
 
             mRenderPaint.setColor(dataSet.getColor());
@@ -337,28 +561,142 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
 
         mRenderPaint.setPathEffect(null);
 
-        // if drawing filled is enabled
+        // if drawing filled is enabled, the fill is built from the same
+        // transformed points as the line
         if (dataSet.isDrawFilledEnabled() && entries.size() > 0) {
-            drawLinearFill(c, dataSet, entries, minx, maxx, trans);
+
+            int pointCount = Math.min((int) Math.ceil((maxx - minx) * phaseX + minx),
+                    entries.size()) - minx;
+
+            if (pointCount > 0)
+                drawLinearFill(c, dataSet, buffer.buffer, pointCount, trans);
+        }
+    }
+
+    /**
+     * Draws the buckets of the given pyramid level that cover the entries
+     * from minx to maxx. Each bucket is drawn as a vertical line from its
+     * minimum to its maximum, connected to the previous bucket from its last
+     * to its first value.
+     *
+     * @param c
+     * @param dataSet
+     * @param level
+     * @param minx
+     * @param maxx
+     * @param trans
+     */
+    protected void drawPyramidLevel(Canvas c, LineDataSet dataSet, DataPyramid.Level level,
+                                    int minx, int maxx, Transformer trans) {
+
+        float phaseY = mAnimator.getPhaseY();
+
+        int from = level.getBucketForEntry(minx);
+        int to = Math.min(level.getBucketForEntry(maxx - 1) + 1, level.end);
+
+        if (to <= from)
+            return;
+
+        int size = (to - from) * 8 - 4;
+
+        if (mPyramidBuffer.length < size)
+            mPyramidBuffer = new float[size];
+
+        float[] buffer = mPyramidBuffer;
+        int index = 0;
+
+        for (int b = from; b < to; b++) {
+
+            float x = level.getX(b);
+
+            if (b > from) {
+                buffer[index++] = level.getX(b - 1);
+                buffer[index++] = level.last[b - 1] * phaseY;
+                buffer[index++] = x;
+                buffer[index++] = level.first[b] * phaseY;
+            }
+
+            buffer[index++] = x;
+            buffer[index++] = level.min[b] * phaseY;
+            buffer[index++] = x;
+            buffer[index++] = level.max[b] * phaseY;
         }
+
+        trans.pointValuesToPixel(buffer, 0, size);
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        c.drawLines(buffer, 0, size, mRenderPaint);
     }
 
-    protected void drawLinearFill(Canvas c, LineDataSet dataSet, List<Entry> entries, int minx,
-                                  int maxx,
+    /**
+     * Draws the fill below a linear line.
+     *
+     * @param c
+     * @param dataSet
+     * @param lines the transformed line-segments of the line, as fed into
+     *            the line-buffer
+     * @param pointCount the number of points of the line
+     * @param trans
+     */
+    protected void drawLinearFill(Canvas c, LineDataSet dataSet, float[] lines, int pointCount,
                                   Transformer trans) {
 
-        Path filled = generateFilledPath(
-                entries,
-                dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart), minx, maxx);
+        float fillMin = getFillLinePixel(dataSet, trans);
+
+        Path filled = mFillPath;
+        filled.reset();
+        filled.moveTo(lines[0], fillMin);
+        filled.lineTo(lines[0], lines[1]);
+
+        // the end points of the line-segments
+        for (int i = 1; i < pointCount; i++)
+            filled.lineTo(lines[i * 4 - 2], lines[i * 4 - 1]);
+
+        // close up
+        filled.lineTo(pointCount > 1 ? lines[pointCount * 4 - 6] : lines[0], fillMin);
+        filled.close();
+
+        drawFilledPath(c, filled, dataSet);
+    }
+
+    /**
+     * Returns the pixel position of the line the fill of the given DataSet
+     * reaches to.
+     *
+     * @param dataSet
+     * @param trans
+     * @return
+     */
+    protected float getFillLinePixel(LineDataSet dataSet, Transformer trans) {
+
+        mFillBuffer[0] = 0f;
+        mFillBuffer[1] = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
+
+        trans.pointValuesToPixel(mFillBuffer);
+
+        return mFillBuffer[1];
+    }
+
+    /**
+     * Draws the provided (transformed) path filled with the fill color and
+     * alpha of the DataSet, or its fill gradient.
+     *
+     * @param c
+     * @param filledPath
+     * @param dataSet
+     */
+    protected void drawFilledPath(Canvas c, Path filledPath, LineDataSet dataSet) {
+
+        mFillPaint.setShader(dataSet.isFillGradientEnabled() ? getFillShader(dataSet) : null);
 
-        trans.pathValueToPixel(filled);
+        drawFilledPath(c, filledPath, dataSet.getFillColor(), dataSet.getFillAlpha());
 
-        drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
+        mFillPaint.setShader(null);
     }
 
     /**
      * Draws the provided path in filled mode with the provided color and alpha.
-     * Special thanks to Angelo Suzuki (https://github.com/tinsukE) for this.
      *
      * @param c
      * @param filledPath
@@ -366,53 +704,51 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
      * @param fillAlpha
      */
     protected void drawFilledPath(Canvas c, Path filledPath, int fillColor, int fillAlpha) {
-        c.save();
-        c.clipPath(filledPath);
 
         int color = (fillAlpha << 24) | (fillColor & 0xffffff);
-        c.drawColor(color);
-        c.restore();
+        mFillPaint.setColor(color);
+
+        c.drawPath(filledPath, mFillPaint);
     }
 
     /**
-     * Generates the path that is used for filled drawing.
+     * Returns the gradient shader for the fill of the given DataSet, from the
+     * top to the bottom of the content area. The shader is only created again
+     * if the content area or the colors changed.
      *
-     * @param entries
+     * @param dataSet
      * @return
      */
-    private Path generateFilledPath(List<Entry> entries, float fillMin, int from, int to) {
-
-        float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
-
-        Path filled = new Path();
-        filled.moveTo(entries.get(from).getXIndex(), fillMin);
-        filled.lineTo(entries.get(from).getXIndex(), entries.get(from).getVal() * phaseY);
+    protected LinearGradient getFillShader(LineDataSet dataSet) {
 
-        // create a new path
-        for (int x = from + 1, count = (int) Math.ceil((to - from) * phaseX + from); x < count; x++) {
+        int index = mChart.getLineData().getIndexOfDataSet(dataSet);
 
-            Entry e = entries.get(x);
-            filled.lineTo(e.getXIndex(), e.getVal() * phaseY);
-        }
+        float top = mViewPortHandler.contentTop();
+        float bottom = mViewPortHandler.contentBottom();
+        int[] colors = dataSet.getFillGradientColors();
 
-        // close up
-        filled.lineTo(
-                entries.get(
-                        Math.max(
-                                Math.min((int) Math.ceil((to - from) * phaseX + from) - 1,
-                                        entries.size() - 1), 0)).getXIndex(), fillMin);
+        if (mFillShaders[index] != null
+                && mFillShaderPositions[index * 2] == top
+                && mFillShaderPositions[index * 2 + 1] == bottom
+                && mFillShaderColors[index] == colors)
+            return mFillShaders[index];
 
-        filled.close();
+        mFillShaders[index] = new LinearGradient(0f, top, 0f, bottom, colors[0], colors[1],
+                Shader.TileMode.CLAMP);
+        mFillShaderPositions[index * 2] = top;
+        mFillShaderPositions[index * 2 + 1] = bottom;
+        mFillShaderColors[index] = colors;
 
-        return filled;
+        return mFillShaders[index];
     }
 
     @Override
     public void drawValues(Canvas c) {
 
-        if (mChart.getLineData().getYValCount() < mChart.getMaxVisibleCount()
-                * mViewPortHandler.getScaleX()) {
+        prepareValueLabelCulling();
+
+        if (isDrawingValuesAllowed(mChart.getLineData().getYValCount(),
+                mChart.getMaxVisibleCount())) {
 
             List<LineDataSet> dataSets = mChart.getLineData().getDataSets();
 
@@ -440,14 +776,15 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
                 Entry entryTo = dataSet.getEntryForXIndex(mMaxX);
 
                 int diff = (entryFrom == entryTo) ? 1 : 0;
-                int minx = Math.max(dataSet.getEntryPosition(entryFrom) - diff, 0);
+                int minx = Math.max(dataSet.getEntryIndex(entryFrom.getXIndex()) - diff, 0);
                 int maxx = Math.min(Math.max(
-                        minx + 2, dataSet.getEntryPosition(entryTo) + 1), entries.size());
+                        minx + 2, dataSet.getEntryIndex(entryTo.getXIndex()) + 1), entries.size());
 
                 float[] positions = trans.generateTransformedValuesLine(
                         entries, mAnimator.getPhaseX(), mAnimator.getPhaseY(), minx, maxx);
+                final int count = trans.getTransformedValueCount();
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < count; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -460,7 +797,7 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
 
                     Entry entry = entries.get(j / 2 + minx);
 
-                    drawValue(c, dataSet.getValueFormatter(), entry.getVal(), entry, i, x,
+                    drawValue(c, dataSet, j / 2 + minx, entry.getVal(), entry, i, x,
                             y - valOffset);
                 }
             }
@@ -498,9 +835,9 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
             Entry entryTo = dataSet.getEntryForXIndex(mMaxX);
 
             int diff = (entryFrom == entryTo) ? 1 : 0;
-            int minx = Math.max(dataSet.getEntryPosition(entryFrom) - diff, 0);
+            int minx = Math.max(dataSet.getEntryIndex(entryFrom.getXIndex()) - diff, 0);
             int maxx = Math.min(Math.max(
-                    minx + 2, dataSet.getEntryPosition(entryTo) + 1), entries.size());
+                    minx + 2, dataSet.getEntryIndex(entryTo.getXIndex()) + 1), entries.size());
 
             CircleBuffer buffer = mCircleBuffers[i];
             buffer.setPhases(phaseX, phaseY);
@@ -508,11 +845,40 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
             buffer.limitTo(maxx);
             buffer.feed(entries);
 
-            trans.pointValuesToPixel(buffer.buffer);
+            int count = ((int) Math.ceil((maxx - minx) * phaseX + minx) - minx) * 2;
+
+            // only the fed part of the buffer needs to be transformed
+            trans.pointValuesToPixel(buffer.buffer, 0, count);
 
             float halfsize = dataSet.getCircleSize() / 2f;
 
-            for (int j = 0, count = (int) Math.ceil((maxx - minx) * phaseX + minx) * 2; j < count; j += 2) {
+            // stamp pre-rendered circles if there are not too many colors
+            CircleSprites sprites = mCircleSprites[i];
+
+            if (sprites.update(dataSet.getCircleSize(), halfsize,
+                    dataSet.isDrawCircleHoleEnabled(), dataSet.getCircleHoleColor(),
+                    dataSet.getCircleColors())) {
+
+                float offset = sprites.getOffset();
+
+                for (int j = 0; j < count; j += 2) {
+
+                    float x = buffer.buffer[j];
+                    float y = buffer.buffer[j + 1];
+
+                    if (!mViewPortHandler.isInBoundsRight(x))
+                        break;
+
+                    if (!mViewPortHandler.isInBoundsLeft(x) || !mViewPortHandler.isInBoundsY(y))
+                        continue;
+
+                    c.drawBitmap(sprites.getSprite(j / 2 + minx), x - offset, y - offset, null);
+                }
+
+                continue;
+            }
+
+            for (int j = 0; j < count; j += 2) {
 
                 float x = buffer.buffer[j];
                 float y = buffer.buffer[j + 1];
@@ -566,9 +932,9 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
             // the
             // y-position
 
-            float[] pts = new float[]{
-                    xIndex, y
-            };
+            float[] pts = mHighlightPoint;
+            pts[0] = xIndex;
+            pts[1] = y;
 
             mChart.getTransformer(set.getAxisDependency()).pointValuesToPixel(pts);
 
@@ -578,11 +944,25 @@ public class LineChartRenderer extends LineScatterCandleRadarRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Hands the drawing bitmap back to the BitmapPool and recycles the circle
+     * sprites. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
+    @Override
     public void releaseBitmap() {
+
+        releaseDrawBitmap();
+
+        for (CircleSprites sprites : mCircleSprites)
+            sprites.recycle();
+    }
+
+    /**
+     * Hands the drawing bitmap back to the BitmapPool, the circle sprites are
+     * kept.
+     */
+    private void releaseDrawBitmap() {
         if (mDrawBitmap != null) {
-            mDrawBitmap.recycle();
+            BitmapPool.release(mDrawBitmap);
             mDrawBitmap = null;
         }
     }
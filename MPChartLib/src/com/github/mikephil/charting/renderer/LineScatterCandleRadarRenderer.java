@@ -17,6 +17,9 @@ public abstract class LineScatterCandleRadarRenderer extends DataRenderer {
      */
     private Path mHighlightLinePath = new Path();
 
+    /** buffer for the position of the highlight-lines, see drawHighlightLines(...) */
+    protected float[] mHighlightPoint = new float[2];
+
     public LineScatterCandleRadarRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
     }
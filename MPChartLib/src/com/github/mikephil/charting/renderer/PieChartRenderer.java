@@ -16,6 +16,7 @@ import android.text.TextPaint;
 import android.util.Log;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.cache.BitmapPool;
 import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.charts.PieChart;
 import com.github.mikephil.charting.data.Entry;
@@ -23,7 +24,6 @@ import com.github.mikephil.charting.data.PieData;
 import com.github.mikephil.charting.data.PieDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.utils.Utils;
-import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.List;
@@ -50,8 +50,11 @@ public class PieChartRenderer extends DataRenderer {
     private RectF mCenterTextLastBounds = new RectF();
     private RectF[] mRectBuffer = {new RectF(), new RectF(), new RectF()};
 
+    /** the circle box enlarged by the selection shift, see drawHighlighted(...) */
+    private RectF mHighlightedCircleBox = new RectF();
+
     /**
-     * Bitmap for drawing the center hole
+     * Bitmap for drawing the center hole, taken from the BitmapPool
      */
     protected Bitmap mDrawBitmap;
 
@@ -104,19 +107,10 @@ public class PieChartRenderer extends DataRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        if (mDrawBitmap == null
-                || (mDrawBitmap.getWidth() != width)
-                || (mDrawBitmap.getHeight() != height)) {
-
-            if (width > 0 && height > 0) {
-
-                mDrawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
-                mBitmapCanvas = new Canvas(mDrawBitmap);
-            } else
-                return;
-        }
+        if (width <= 0 || height <= 0)
+            return;
 
-        mDrawBitmap.eraseColor(Color.TRANSPARENT);
+        acquireDrawBitmap(width, height);
 
         PieData pieData = mChart.getData();
 
@@ -162,6 +156,8 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawValues(Canvas c) {
 
+        prepareValueLabelCulling();
+
         PointF center = mChart.getCenterCircleBox();
 
         // get whole the radius
@@ -218,14 +214,12 @@ public class PieChartRenderer extends DataRenderer {
                 float value = mChart.isUsePercentValuesEnabled() ? entry.getVal()
                         / data.getYValueSum() * 100f : entry.getVal();
 
-                ValueFormatter formatter = dataSet.getValueFormatter();
-
                 boolean drawYVals = dataSet.isDrawValuesEnabled();
 
                 // draw everything, depending on settings
                 if (drawXVals && drawYVals) {
 
-                    drawValue(c, formatter, value, entry, 0, x, y);
+                    drawValue(c, dataSet, j, value, entry, 0, x, y);
 
                     if (j < data.getXValCount())
                         c.drawText(data.getXVals().get(j), x, y + lineHeight,
@@ -236,7 +230,7 @@ public class PieChartRenderer extends DataRenderer {
                         c.drawText(data.getXVals().get(j), x, y + lineHeight / 2f, mValuePaint);
                 } else if (!drawXVals && drawYVals) {
 
-                    drawValue(c, formatter, value, entry, 0, x, y + lineHeight / 2f);
+                    drawValue(c, dataSet, j, value, entry, 0, x, y + lineHeight / 2f);
                 }
 
                 cnt++;
@@ -423,7 +417,8 @@ public class PieChartRenderer extends DataRenderer {
              *
              * @link https://github.com/wogg
              */
-            RectF highlighted = new RectF(circleBox.left - shift,
+            RectF highlighted = mHighlightedCircleBox;
+            highlighted.set(circleBox.left - shift,
                     circleBox.top - shift,
                     circleBox.right + shift,
                     circleBox.bottom + shift);
@@ -488,11 +483,38 @@ public class PieChartRenderer extends DataRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Makes sure a transparent draw-bitmap with the given size is available,
+     * taken from the shared BitmapPool if there is none yet or the size
+     * changed.
+     *
+     * @param width
+     * @param height
      */
+    protected void acquireDrawBitmap(int width, int height) {
+
+        if (mDrawBitmap != null && mDrawBitmap.getWidth() == width
+                && mDrawBitmap.getHeight() == height) {
+            mDrawBitmap.eraseColor(Color.TRANSPARENT);
+            return;
+        }
+
+        releaseBitmap();
+
+        mDrawBitmap = BitmapPool.acquire(width, height, Bitmap.Config.ARGB_4444);
+
+        if (mBitmapCanvas == null)
+            mBitmapCanvas = new Canvas(mDrawBitmap);
+        else
+            mBitmapCanvas.setBitmap(mDrawBitmap);
+    }
+
+    /**
+     * Hands the drawing bitmap back to the BitmapPool. This should be called when {@link PieChart#onDetachedFromWindow()}.
+     */
+    @Override
     public void releaseBitmap() {
         if (mDrawBitmap != null) {
-            mDrawBitmap.recycle();
+            BitmapPool.release(mDrawBitmap);
             mDrawBitmap = null;
         }
     }
@@ -27,6 +27,22 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
      */
     protected Paint mWebPaint;
 
+    /**
+     * path for the surface of a DataSet, reused
+     */
+    protected Path mSurfacePath = new Path();
+
+    /**
+     * buffers for positions around the center
+     */
+    protected PointF mPositionBuffer = new PointF();
+    protected PointF mPositionBuffer2 = new PointF();
+
+    /**
+     * buffer for the center of the chart
+     */
+    protected PointF mCenterBuffer = new PointF();
+
     public RadarChartRenderer(RadarChart chart, ChartAnimator animator,
                               ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -71,11 +87,12 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
         // pixels
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        PointF center = mChart.getCenterOffsets(mCenterBuffer);
 
         List<Entry> entries = dataSet.getYVals();
 
-        Path surface = new Path();
+        Path surface = mSurfacePath;
+        surface.reset();
 
         boolean hasMovedToPoint = false;
 
@@ -86,7 +103,7 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
             Entry e = entries.get(j);
 
             PointF p = Utils.getPosition(center, (e.getVal() - mChart.getYChartMin()) * factor,
-                    sliceangle * j + mChart.getRotationAngle());
+                    sliceangle * j + mChart.getRotationAngle(), mPositionBuffer);
 
             if (Float.isNaN(p.x))
                 continue;
@@ -119,13 +136,15 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
     @Override
     public void drawValues(Canvas c) {
 
+        prepareValueLabelCulling();
+
         float sliceangle = mChart.getSliceAngle();
 
         // calculate the factor that is needed for transforming the value to
         // pixels
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        PointF center = mChart.getCenterOffsets(mCenterBuffer);
 
         float yoffset = Utils.convertDpToPixel(5f);
 
@@ -146,9 +165,9 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
                 Entry entry = entries.get(j);
 
                 PointF p = Utils.getPosition(center, (entry.getVal() - mChart.getYChartMin()) * factor,
-                        sliceangle * j + mChart.getRotationAngle());
+                        sliceangle * j + mChart.getRotationAngle(), mPositionBuffer);
 
-                drawValue(c, dataSet.getValueFormatter(), entry.getVal(), entry, i, p.x, p.y - yoffset);
+                drawValue(c, dataSet, j, entry.getVal(), entry, i, p.x, p.y - yoffset);
             }
         }
     }
@@ -167,7 +186,7 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
         float factor = mChart.getFactor();
         float rotationangle = mChart.getRotationAngle();
 
-        PointF center = mChart.getCenterOffsets();
+        PointF center = mChart.getCenterOffsets(mCenterBuffer);
 
         // draw the web lines that come from the center
         mWebPaint.setStrokeWidth(mChart.getWebLineWidth());
@@ -179,7 +198,7 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
         for (int i = 0; i < mChart.getData().getXValCount(); i += xIncrements) {
 
             PointF p = Utils.getPosition(center, mChart.getYRange() * factor, sliceangle * i
-                    + rotationangle);
+                    + rotationangle, mPositionBuffer);
 
             c.drawLine(center.x, center.y, p.x, p.y, mWebPaint);
         }
@@ -197,8 +216,8 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
 
                 float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
 
-                PointF p1 = Utils.getPosition(center, r, sliceangle * i + rotationangle);
-                PointF p2 = Utils.getPosition(center, r, sliceangle * (i + 1) + rotationangle);
+                PointF p1 = Utils.getPosition(center, r, sliceangle * i + rotationangle, mPositionBuffer);
+                PointF p2 = Utils.getPosition(center, r, sliceangle * (i + 1) + rotationangle, mPositionBuffer2);
 
                 c.drawLine(p1.x, p1.y, p2.x, p2.y, mWebPaint);
             }
@@ -211,7 +230,7 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
         float sliceangle = mChart.getSliceAngle();
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        PointF center = mChart.getCenterOffsets(mCenterBuffer);
 
         for (int i = 0; i < indices.length; i++) {
 
@@ -236,11 +255,11 @@ public class RadarChartRenderer extends LineScatterCandleRadarRenderer {
                 continue;
 
             PointF p = Utils.getPosition(center, y * factor,
-                    sliceangle * j + mChart.getRotationAngle());
+                    sliceangle * j + mChart.getRotationAngle(), mPositionBuffer);
 
-            float[] pts = new float[]{
-                    p.x, p.y
-            };
+            float[] pts = mHighlightPoint;
+            pts[0] = p.x;
+            pts[1] = p.y;
 
             // draw the lines
             drawHighlightLines(c, pts, set);
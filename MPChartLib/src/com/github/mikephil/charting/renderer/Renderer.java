@@ -22,6 +22,12 @@ public abstract class Renderer {
     /** the maximum value on the x-axis that should be plotted */
     protected int mMaxX = 0;
 
+    /**
+     * true if the bounds have been set by setXBounds(...) since they were
+     * calculated the last time
+     */
+    protected boolean mXBoundsSet = false;
+
     public Renderer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
@@ -59,5 +65,20 @@ public abstract class Renderer {
         
         mMinX = Math.max((low / xAxisModulus) * (xAxisModulus) - subLow, 0);
         mMaxX = Math.min((high / xAxisModulus) * (xAxisModulus) + xAxisModulus, (int) dataProvider.getXChartMax());
+
+        mXBoundsSet = false;
+    }
+
+    /**
+     * Overrides the x-bounds calculated by calcXBounds(...), e.g. to only
+     * render the entries of a part of the content area. -> mMinX, mMaxX
+     *
+     * @param min
+     * @param max
+     */
+    public void setXBounds(int min, int max) {
+        mMinX = min;
+        mMaxX = max;
+        mXBoundsSet = true;
     }
 }
@@ -2,11 +2,13 @@
 package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
+import android.graphics.Paint.Cap;
 import android.graphics.Paint.Style;
 import android.graphics.Path;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.ScatterBuffer;
+import com.github.mikephil.charting.cache.ShapeSprites;
 import com.github.mikephil.charting.charts.ScatterChart.ScatterShape;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterData;
@@ -25,6 +27,17 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
     protected ScatterBuffer[] mScatterBuffers;
 
+    /** pre-rendered shapes, one set for each DataSet */
+    protected ShapeSprites[] mShapeSprites = new ShapeSprites[0];
+
+    /** the cross lines of single-colored DataSets, drawn in one call */
+    protected float[] mVisibleBuffer = new float[0];
+
+    /** the entry indices of the visible points in the buffer of the DataSet drawn */
+    protected int[] mVisibleIndices = new int[0];
+
+    protected Path mTrianglePath = new Path();
+
     public ScatterChartRenderer(ScatterDataProvider chart, ChartAnimator animator,
             ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -44,6 +57,14 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             ScatterDataSet set = scatterData.getDataSetByIndex(i);
             mScatterBuffers[i] = new ScatterBuffer(set.getEntryCount() * 2);
         }
+
+        for (ShapeSprites sprites : mShapeSprites)
+            sprites.recycle();
+
+        mShapeSprites = new ShapeSprites[mScatterBuffers.length];
+
+        for (int i = 0; i < mShapeSprites.length; i++)
+            mShapeSprites[i] = new ShapeSprites();
     }
 
     @Override
@@ -71,31 +92,55 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
         ScatterShape shape = dataSet.getScatterShape();
 
-        ScatterBuffer buffer = mScatterBuffers[mChart.getScatterData().getIndexOfDataSet(
-                dataSet)];
+        int dataSetIndex = mChart.getScatterData().getIndexOfDataSet(dataSet);
+
+        ScatterBuffer buffer = mScatterBuffers[dataSetIndex];
         buffer.setPhases(phaseX, phaseY);
         buffer.feed(entries);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        if (mVisibleIndices.length < buffer.size() / 2)
+            mVisibleIndices = new int[buffer.size() / 2];
+
+        // transform and cull in one pass, the visible points are moved to the
+        // front of the buffer
+        final int[] indices = mVisibleIndices;
+        final int size = trans.pointValuesToPixelInBounds(buffer.buffer, 0, buffer.size(),
+                buffer.buffer, 0, indices);
+        final float[] pts = buffer.buffer;
+
+        // triangles cannot be drawn as points or lines, they are stamped instead
+        if (dataSet.getColors().size() == 1 && shape != ScatterShape.TRIANGLE) {
+            drawShapesBatched(c, dataSet, pts, size);
+            return;
+        }
+
+        // stamp pre-rendered shapes if there are not too many colors
+        ShapeSprites sprites = mShapeSprites[dataSetIndex];
+
+        if (sprites.update(shape, dataSet.getScatterShapeSize(), mRenderPaint.getStrokeWidth(),
+                dataSet.getColors())) {
+
+            float offset = sprites.getOffset();
+
+            for (int i = 0; i < size; i += 2) {
+                c.drawBitmap(sprites.getSprite(indices[i / 2]), pts[i] - offset,
+                        pts[i + 1] - offset, null);
+            }
+
+            return;
+        }
 
         switch (shape) {
             case SQUARE:
 
                 mRenderPaint.setStyle(Style.FILL);
 
-                for (int i = 0; i < buffer.size(); i += 2) {
-
-                    if (!mViewPortHandler.isInBoundsRight(buffer.buffer[i]))
-                        break;
-
-                    if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[i])
-                            || !mViewPortHandler.isInBoundsY(buffer.buffer[i + 1]))
-                        continue;
+                for (int i = 0; i < size; i += 2) {
 
-                    mRenderPaint.setColor(dataSet.getColor(i / 2));
-                    c.drawRect(buffer.buffer[i] - shapeHalf,
-                            buffer.buffer[i + 1] - shapeHalf, buffer.buffer[i]
-                                    + shapeHalf, buffer.buffer[i + 1]
+                    mRenderPaint.setColor(dataSet.getColor(indices[i / 2]));
+                    c.drawRect(pts[i] - shapeHalf,
+                            pts[i + 1] - shapeHalf, pts[i]
+                                    + shapeHalf, pts[i + 1]
                                     + shapeHalf, mRenderPaint);
                 }
                 break;
@@ -103,17 +148,10 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mRenderPaint.setStyle(Style.FILL);
 
-                for (int i = 0; i < buffer.size(); i += 2) {
+                for (int i = 0; i < size; i += 2) {
 
-                    if (!mViewPortHandler.isInBoundsRight(buffer.buffer[i]))
-                        break;
-
-                    if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[i])
-                            || !mViewPortHandler.isInBoundsY(buffer.buffer[i + 1]))
-                        continue;
-
-                    mRenderPaint.setColor(dataSet.getColor(i / 2));
-                    c.drawCircle(buffer.buffer[i], buffer.buffer[i + 1], shapeHalf,
+                    mRenderPaint.setColor(dataSet.getColor(indices[i / 2]));
+                    c.drawCircle(pts[i], pts[i + 1], shapeHalf,
                             mRenderPaint);
                 }
                 break;
@@ -121,22 +159,15 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mRenderPaint.setStyle(Style.FILL);
 
-                // create a triangle path
-                Path tri = new Path();
-
-                for (int i = 0; i < buffer.size(); i += 2) {
+                Path tri = mTrianglePath;
+                tri.reset();
 
-                    if (!mViewPortHandler.isInBoundsRight(buffer.buffer[i]))
-                        break;
-
-                    if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[i])
-                            || !mViewPortHandler.isInBoundsY(buffer.buffer[i + 1]))
-                        continue;
+                for (int i = 0; i < size; i += 2) {
 
-                    mRenderPaint.setColor(dataSet.getColor(i / 2));
-                    tri.moveTo(buffer.buffer[i], buffer.buffer[i + 1] - shapeHalf);
-                    tri.lineTo(buffer.buffer[i] + shapeHalf, buffer.buffer[i + 1] + shapeHalf);
-                    tri.lineTo(buffer.buffer[i] - shapeHalf, buffer.buffer[i + 1] + shapeHalf);
+                    mRenderPaint.setColor(dataSet.getColor(indices[i / 2]));
+                    tri.moveTo(pts[i], pts[i + 1] - shapeHalf);
+                    tri.lineTo(pts[i] + shapeHalf, pts[i + 1] + shapeHalf);
+                    tri.lineTo(pts[i] - shapeHalf, pts[i + 1] + shapeHalf);
                     tri.close();
 
                     c.drawPath(tri, mRenderPaint);
@@ -147,22 +178,15 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mRenderPaint.setStyle(Style.STROKE);
 
-                for (int i = 0; i < buffer.size(); i += 2) {
+                for (int i = 0; i < size; i += 2) {
 
-                    if (!mViewPortHandler.isInBoundsRight(buffer.buffer[i]))
-                        break;
-
-                    if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[i])
-                            || !mViewPortHandler.isInBoundsY(buffer.buffer[i + 1]))
-                        continue;
-
-                    mRenderPaint.setColor(dataSet.getColor(i / 2));
+                    mRenderPaint.setColor(dataSet.getColor(indices[i / 2]));
 
-                    c.drawLine(buffer.buffer[i] - shapeHalf, buffer.buffer[i + 1],
-                            buffer.buffer[i] + shapeHalf,
-                            buffer.buffer[i + 1], mRenderPaint);
-                    c.drawLine(buffer.buffer[i], buffer.buffer[i + 1] - shapeHalf,
-                            buffer.buffer[i], buffer.buffer[i + 1]
+                    c.drawLine(pts[i] - shapeHalf, pts[i + 1],
+                            pts[i] + shapeHalf,
+                            pts[i + 1], mRenderPaint);
+                    c.drawLine(pts[i], pts[i + 1] - shapeHalf,
+                            pts[i], pts[i + 1]
                                     + shapeHalf, mRenderPaint);
                 }
                 break;
@@ -196,12 +220,91 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         // }
     }
 
+    /**
+     * Draws the shapes of a single-colored DataSet with one call. Squares and
+     * circles are drawn as (square or round capped) points of the shape
+     * size, crosses as pairs of lines.
+     *
+     * @param c
+     * @param dataSet
+     * @param pts the transformed positions of the visible points
+     * @param size the number of values in pts
+     */
+    protected void drawShapesBatched(Canvas c, ScatterDataSet dataSet, float[] pts, int size) {
+
+        if (size == 0)
+            return;
+
+        ScatterShape shape = dataSet.getScatterShape();
+        float shapeSize = dataSet.getScatterShapeSize();
+        float shapeHalf = shapeSize / 2f;
+
+        mRenderPaint.setColor(dataSet.getColor());
+        mRenderPaint.setStyle(Style.STROKE);
+
+        if (shape == ScatterShape.CROSS) {
+
+            if (mVisibleBuffer.length < size * 4)
+                mVisibleBuffer = new float[size * 4];
+
+            float[] lines = mVisibleBuffer;
+            int count = 0;
+
+            for (int i = 0; i < size; i += 2) {
+
+                float x = pts[i];
+                float y = pts[i + 1];
+
+                lines[count++] = x - shapeHalf;
+                lines[count++] = y;
+                lines[count++] = x + shapeHalf;
+                lines[count++] = y;
+                lines[count++] = x;
+                lines[count++] = y - shapeHalf;
+                lines[count++] = x;
+                lines[count++] = y + shapeHalf;
+            }
+
+            c.drawLines(lines, 0, count, mRenderPaint);
+            return;
+        }
+
+        float strokeWidth = mRenderPaint.getStrokeWidth();
+        Cap cap = mRenderPaint.getStrokeCap();
+
+        mRenderPaint.setStrokeWidth(shapeSize);
+        mRenderPaint.setStrokeCap(shape == ScatterShape.CIRCLE ? Cap.ROUND : Cap.SQUARE);
+
+        c.drawPoints(pts, 0, size, mRenderPaint);
+
+        mRenderPaint.setStrokeWidth(strokeWidth);
+        mRenderPaint.setStrokeCap(cap);
+        mRenderPaint.setStyle(Style.FILL);
+    }
+
+    /**
+     * Recycles the pre-rendered shapes. This should be called when the chart
+     * is detached from its window.
+     */
+    public void releaseSprites() {
+
+        for (ShapeSprites sprites : mShapeSprites)
+            sprites.recycle();
+    }
+
+    @Override
+    public void releaseBitmap() {
+        releaseSprites();
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
+        prepareValueLabelCulling();
+
         // if values are drawn
-        if (mChart.getScatterData().getYValCount() < mChart.getMaxVisibleCount()
-                * mViewPortHandler.getScaleX()) {
+        if (isDrawingValuesAllowed(mChart.getScatterData().getYValCount(),
+                mChart.getMaxVisibleCount())) {
 
             List<ScatterDataSet> dataSets = mChart.getScatterData().getDataSets();
 
@@ -217,13 +320,14 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 List<Entry> entries = dataSet.getYVals();
 
-                float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesScatter(entries,
-                                mAnimator.getPhaseY());
+                Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+                float[] positions = trans.generateTransformedValuesScatter(entries,
+                        mAnimator.getPhaseY());
+                final int count = trans.getTransformedValueCount();
 
                 float shapeSize = dataSet.getScatterShapeSize();
 
-                for (int j = 0; j < positions.length * mAnimator.getPhaseX(); j += 2) {
+                for (int j = 0; j < count * mAnimator.getPhaseX(); j += 2) {
 
                     if (!mViewPortHandler.isInBoundsRight(positions[j]))
                         break;
@@ -235,7 +339,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                     Entry entry = entries.get(j / 2);
 
-                    drawValue(c, dataSet.getValueFormatter(), entry.getVal(), entry, i, positions[j],
+                    drawValue(c, dataSet, j / 2, entry.getVal(), entry, i, positions[j],
                             positions[j + 1] - shapeSize);
                 }
             }
@@ -270,9 +374,9 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
             float y = yVal * mAnimator.getPhaseY();
 
-            float[] pts = new float[] {
-                    xIndex, y
-            };
+            float[] pts = mHighlightPoint;
+            pts[0] = xIndex;
+            pts[1] = y;
 
             mChart.getTransformer(set.getAxisDependency()).pointValuesToPixel(pts);
 
@@ -23,6 +23,18 @@ public class XAxisRenderer extends AxisRenderer {
 
     protected XAxis mXAxis;
 
+    /** text of 'h' chars whose size is used as the label size, kept until the length changes */
+    private String mWidthText = "";
+
+    /** pixel positions of the first two labels to draw, the rest is extrapolated */
+    protected float[] mLabelPositions = new float[4];
+
+    /** anchor of the labels, reused for every drawLabels(...) call */
+    protected PointF mLabelAnchor = new PointF();
+
+    /** size of the widest label, reused for every computeAxis(...) call */
+    protected FSize mLabelSize = new FSize();
+
     public XAxisRenderer(ViewPortHandler viewPortHandler, XAxis xAxis, Transformer trans) {
         super(viewPortHandler, trans);
 
@@ -38,18 +50,25 @@ public class XAxisRenderer extends AxisRenderer {
         mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
 
-        StringBuilder widthText = new StringBuilder();
-
         int max = Math.round(xValAverageLength
                 + mXAxis.getSpaceBetweenLabels());
 
-        for (int i = 0; i < max; i++) {
-            widthText.append('h');
+        // only build a new text if the average length changed, the
+        // measurement itself is cached by Utils
+        if (mWidthText.length() != Math.max(max, 0)) {
+
+            StringBuilder widthText = new StringBuilder();
+
+            for (int i = 0; i < max; i++) {
+                widthText.append('h');
+            }
+
+            mWidthText = widthText.toString();
         }
 
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, widthText.toString());
+        Utils.calcTextSize(mAxisLabelPaint, mWidthText, mLabelSize);
 
-        final float labelWidth = labelSize.width;
+        final float labelWidth = mLabelSize.width;
         final float labelHeight = Utils.calcTextHeight(mAxisLabelPaint, "Q");
 
         final FSize labelRotatedSize = Utils.getSizeOfRotatedRectangleByDegrees(
@@ -80,32 +99,72 @@ public class XAxisRenderer extends AxisRenderer {
         if (mXAxis.getPosition() == XAxisPosition.TOP) {
 
             drawLabels(c, mViewPortHandler.contentTop() - yoffset,
-                    new PointF(0.5f, 1.0f));
+                    labelAnchor(0.5f, 1.0f));
 
         } else if (mXAxis.getPosition() == XAxisPosition.TOP_INSIDE) {
 
             drawLabels(c, mViewPortHandler.contentTop() + yoffset + mXAxis.mLabelRotatedHeight,
-                    new PointF(0.5f, 1.0f));
+                    labelAnchor(0.5f, 1.0f));
 
         } else if (mXAxis.getPosition() == XAxisPosition.BOTTOM) {
 
             drawLabels(c, mViewPortHandler.contentBottom() + yoffset,
-                    new PointF(0.5f, 0.0f));
+                    labelAnchor(0.5f, 0.0f));
 
         } else if (mXAxis.getPosition() == XAxisPosition.BOTTOM_INSIDE) {
 
             drawLabels(c, mViewPortHandler.contentBottom() - yoffset - mXAxis.mLabelRotatedHeight,
-                    new PointF(0.5f, 0.0f));
+                    labelAnchor(0.5f, 0.0f));
 
         } else { // BOTH SIDED
 
             drawLabels(c, mViewPortHandler.contentTop() - yoffset,
-                    new PointF(0.5f, 1.0f));
+                    labelAnchor(0.5f, 1.0f));
             drawLabels(c, mViewPortHandler.contentBottom() + yoffset,
-                    new PointF(0.5f, 0.0f));
+                    labelAnchor(0.5f, 0.0f));
         }
     }
 
+    /**
+     * Returns the reused label anchor set to the given values.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected PointF labelAnchor(float x, float y) {
+        mLabelAnchor.set(x, y);
+        return mLabelAnchor;
+    }
+
+    /**
+     * Transforms the x-values of the first label and the label after it to
+     * pixels, into mLabelPositions[0] and [2] (x) or [1] and [3] (y). Since
+     * the transformation is linear, the pixel position of every further label
+     * follows from these two, so only two points are transformed per frame.
+     *
+     * @param first    x-value of the first label
+     * @param step     x-value distance between two drawn labels
+     * @param vertical true if the x-values are laid out vertically
+     */
+    protected void prepareLabelPositions(float first, float step, boolean vertical) {
+
+        int axis = vertical ? 1 : 0;
+
+        mLabelPositions[0] = 0f;
+        mLabelPositions[1] = 0f;
+        mLabelPositions[2] = 0f;
+        mLabelPositions[3] = 0f;
+
+        mLabelPositions[axis] = first;
+        mLabelPositions[axis + 2] = first + step;
+
+        mTrans.pointValuesToPixel(mLabelPositions);
+
+        // keep the pixel distance between two labels in [2] / [3]
+        mLabelPositions[axis + 2] -= mLabelPositions[axis];
+    }
+
     @Override
     public void renderAxisLine(Canvas c) {
 
@@ -141,16 +200,17 @@ public class XAxisRenderer extends AxisRenderer {
 
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
 
-        // pre allocate to save performance (dont allocate in loop)
-        float[] position = new float[] {
-                0f, 0f
-        };
+        final int modulus = mXAxis.mAxisLabelModulus;
+
+        prepareLabelPositions(mMinX, modulus, false);
 
-        for (int i = mMinX; i <= mMaxX; i += mXAxis.mAxisLabelModulus) {
+        float[] position = mLabelPositions;
+        final float first = position[0];
+        final float step = position[2];
 
-            position[0] = i;
+        for (int i = mMinX, k = 0; i <= mMaxX; i += modulus, k++) {
 
-            mTrans.pointValuesToPixel(position);
+            position[0] = first + k * step;
 
             if (mViewPortHandler.isInBoundsX(position[0])) {
 
@@ -190,34 +250,35 @@ public class XAxisRenderer extends AxisRenderer {
         if (!mXAxis.isDrawGridLinesEnabled() || !mXAxis.isEnabled())
             return;
 
-        // pre alloc
-        float[] position = new float[] {
-                0f, 0f
-        };
-
         mGridPaint.setColor(mXAxis.getGridColor());
         mGridPaint.setStrokeWidth(mXAxis.getGridLineWidth());
         mGridPaint.setPathEffect(mXAxis.getGridDashPathEffect());
 
-        Path gridLinePath = new Path();
+        final int modulus = mXAxis.mAxisLabelModulus;
 
-        for (int i = mMinX; i <= mMaxX; i += mXAxis.mAxisLabelModulus) {
+        prepareLabelPositions(mMinX, modulus, false);
 
-            position[0] = i;
-            mTrans.pointValuesToPixel(position);
+        final float first = mLabelPositions[0];
+        final float step = mLabelPositions[2];
 
-            if (position[0] >= mViewPortHandler.offsetLeft()
-                    && position[0] <= mViewPortHandler.getChartWidth()) {
+        float[] segments = getLineSegmentsBuffer((mMaxX - mMinX) / modulus + 1);
+        int size = 0;
 
-                gridLinePath.moveTo(position[0], mViewPortHandler.contentBottom());
-                gridLinePath.lineTo(position[0], mViewPortHandler.contentTop());
+        for (int i = mMinX, k = 0; i <= mMaxX; i += modulus, k++) {
 
-                // draw a path because lines don't support dashing on lower android versions
-                c.drawPath(gridLinePath, mGridPaint);
-            }
+            float x = first + k * step;
+
+            if (x >= mViewPortHandler.offsetLeft()
+                    && x <= mViewPortHandler.getChartWidth()) {
 
-            gridLinePath.reset();
+                segments[size++] = x;
+                segments[size++] = mViewPortHandler.contentBottom();
+                segments[size++] = x;
+                segments[size++] = mViewPortHandler.contentTop();
+            }
         }
+
+        drawLineSegments(c, segments, size, mGridPaint);
     }
 
 	/**
@@ -233,21 +294,24 @@ public class XAxisRenderer extends AxisRenderer {
 		if (limitLines == null || limitLines.size() <= 0)
 			return;
 
-        float[] position = new float[2];
+        float[] pixels = computeLimitLinePixels(limitLines, true);
 
-		for (int i = 0; i < limitLines.size(); i++) {
+        // the lines are batched by style, the labels are drawn on top
+        renderLimitLineLines(c, limitLines, pixels, true);
 
-			LimitLine l = limitLines.get(i);
+        float[] position = mLimitLinePoint;
 
-            if(!l.isEnabled())
+		for (int i = 0; i < limitLines.size(); i++) {
+
+            // disabled or outside of the content area
+            if (Float.isNaN(pixels[i]))
                 continue;
 
-            position[0] = l.getLimit();
-            position[1] = 0.f;
+			LimitLine l = limitLines.get(i);
 
-            mTrans.pointValuesToPixel(position);
+            position[0] = pixels[i];
+            position[1] = 0.f;
 
-            renderLimitLineLine(c, l, position);
             renderLimitLineLabel(c, l, position, 2.f + l.getYOffset());
 		}
 	}
@@ -255,6 +319,14 @@ public class XAxisRenderer extends AxisRenderer {
     float[] mLimitLineSegmentsBuffer = new float[4];
     private Path mLimitLinePath = new Path();
 
+    /**
+     * Draws the line of a single LimitLine at the given pixel position.
+     * renderLimitLines(...) draws all lines batched instead.
+     *
+     * @param c
+     * @param limitLine
+     * @param position
+     */
     public void renderLimitLineLine(Canvas c, LimitLine limitLine, float[] position)
     {
         mLimitLineSegmentsBuffer[0] = position[0];
@@ -32,25 +32,28 @@ public class XAxisRendererBarChart extends XAxisRenderer {
 
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
 
-        // pre allocate to save performance (dont allocate in loop)
-        float[] position = new float[] {
-                0f, 0f
-        };
-
         BarData bd = mChart.getData();
         int step = bd.getDataSetCount();
 
-        for (int i = mMinX; i <= mMaxX; i += mXAxis.mAxisLabelModulus) {
+        final int modulus = mXAxis.mAxisLabelModulus;
 
-            position[0] = i * step + i * bd.getGroupSpace()
-                    + bd.getGroupSpace() / 2f;
+        float firstX = mMinX * step + mMinX * bd.getGroupSpace()
+                + bd.getGroupSpace() / 2f;
 
-            // consider groups (center label for each group)
-            if (step > 1) {
-                position[0] += ((float) step - 1f) / 2f;
-            }
+        // consider groups (center label for each group)
+        if (step > 1) {
+            firstX += ((float) step - 1f) / 2f;
+        }
+
+        prepareLabelPositions(firstX, modulus * (step + bd.getGroupSpace()), false);
+
+        float[] position = mLabelPositions;
+        final float first = position[0];
+        final float labelStep = position[2];
+
+        for (int i = mMinX, k = 0; i <= mMaxX; i += modulus, k++) {
 
-            mTrans.pointValuesToPixel(position);
+            position[0] = first + k * labelStep;
 
             if (mViewPortHandler.isInBoundsX(position[0]) && i >= 0
                     && i < mXAxis.getValues().size()) {
@@ -87,27 +90,36 @@ public class XAxisRendererBarChart extends XAxisRenderer {
         if (!mXAxis.isDrawGridLinesEnabled() || !mXAxis.isEnabled())
             return;
 
-        float[] position = new float[] {
-                0f, 0f
-        };
-
         mGridPaint.setColor(mXAxis.getGridColor());
         mGridPaint.setStrokeWidth(mXAxis.getGridLineWidth());
 
         BarData bd = mChart.getData();
         int step = bd.getDataSetCount();
 
-        for (int i = mMinX; i < mMaxX; i += mXAxis.mAxisLabelModulus) {
+        final int modulus = mXAxis.mAxisLabelModulus;
+
+        prepareLabelPositions(mMinX * step + mMinX * bd.getGroupSpace() - 0.5f,
+                modulus * (step + bd.getGroupSpace()), false);
+
+        final float first = mLabelPositions[0];
+        final float lineStep = mLabelPositions[2];
 
-            position[0] = i * step + i * bd.getGroupSpace() - 0.5f;
+        float[] segments = getLineSegmentsBuffer((mMaxX - mMinX) / modulus + 1);
+        int size = 0;
 
-            mTrans.pointValuesToPixel(position);
+        for (int i = mMinX, k = 0; i < mMaxX; i += modulus, k++) {
 
-            if (mViewPortHandler.isInBoundsX(position[0])) {
+            float x = first + k * lineStep;
 
-                c.drawLine(position[0], mViewPortHandler.offsetTop(), position[0],
-                        mViewPortHandler.contentBottom(), mGridPaint);
+            if (mViewPortHandler.isInBoundsX(x)) {
+
+                segments[size++] = x;
+                segments[size++] = mViewPortHandler.offsetTop();
+                segments[size++] = x;
+                segments[size++] = mViewPortHandler.contentBottom();
             }
         }
+
+        drawLineSegments(c, segments, size, mGridPaint);
     }
 }
@@ -2,9 +2,7 @@
 package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
-import android.graphics.Paint;
 import android.graphics.Paint.Align;
-import android.graphics.Path;
 import android.graphics.PointF;
 
 import com.github.mikephil.charting.charts.BarChart;
@@ -35,13 +33,13 @@ public class XAxisRendererHorizontalBarChart extends XAxisRendererBarChart {
 
         String longest = mXAxis.getLongestLabel();
 
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, longest);
+        Utils.calcTextSize(mAxisLabelPaint, longest, mLabelSize);
 
-        final float labelWidth = (int)(labelSize.width + mXAxis.getXOffset() * 3.5f);
-        final float labelHeight = labelSize.height;
+        final float labelWidth = (int)(mLabelSize.width + mXAxis.getXOffset() * 3.5f);
+        final float labelHeight = mLabelSize.height;
 
         final FSize labelRotatedSize = Utils.getSizeOfRotatedRectangleByDegrees(
-                labelSize.width,
+                mLabelSize.width,
                 labelHeight,
                 mXAxis.getLabelRotationAngle());
 
@@ -66,29 +64,29 @@ public class XAxisRendererHorizontalBarChart extends XAxisRendererBarChart {
         if (mXAxis.getPosition() == XAxisPosition.TOP) {
 
             drawLabels(c, mViewPortHandler.contentRight() + xoffset,
-                    new PointF(0.0f, 0.5f));
+                    labelAnchor(0.0f, 0.5f));
 
         } else if (mXAxis.getPosition() == XAxisPosition.TOP_INSIDE) {
 
             drawLabels(c, mViewPortHandler.contentRight() - xoffset,
-                    new PointF(1.0f, 0.5f));
+                    labelAnchor(1.0f, 0.5f));
 
         } else if (mXAxis.getPosition() == XAxisPosition.BOTTOM) {
 
             drawLabels(c, mViewPortHandler.contentLeft() - xoffset,
-                    new PointF(1.0f, 0.5f));
+                    labelAnchor(1.0f, 0.5f));
 
         } else if (mXAxis.getPosition() == XAxisPosition.BOTTOM_INSIDE) {
 
             drawLabels(c, mViewPortHandler.contentLeft() + xoffset,
-                    new PointF(0.0f, 0.5f));
+                    labelAnchor(0.0f, 0.5f));
 
         } else { // BOTH SIDED
 
             drawLabels(c, mViewPortHandler.contentRight() + xoffset,
-                    new PointF(0.0f, 0.5f));
+                    labelAnchor(0.0f, 0.5f));
             drawLabels(c, mViewPortHandler.contentLeft() - xoffset,
-                    new PointF(1.0f, 0.5f));
+                    labelAnchor(1.0f, 0.5f));
         }
     }
 
@@ -102,25 +100,28 @@ public class XAxisRendererHorizontalBarChart extends XAxisRendererBarChart {
 
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
 
-        // pre allocate to save performance (dont allocate in loop)
-        float[] position = new float[] {
-                0f, 0f
-        };
-
         BarData bd = mChart.getData();
         int step = bd.getDataSetCount();
 
-        for (int i = mMinX; i <= mMaxX; i += mXAxis.mAxisLabelModulus) {
+        final int modulus = mXAxis.mAxisLabelModulus;
 
-            position[1] = i * step + i * bd.getGroupSpace()
-                    + bd.getGroupSpace() / 2f;
-            
-            // consider groups (center label for each group)
-            if (step > 1) {
-                position[1] += ((float) step - 1f) / 2f;
-            }
+        float firstY = mMinX * step + mMinX * bd.getGroupSpace()
+                + bd.getGroupSpace() / 2f;
+
+        // consider groups (center label for each group)
+        if (step > 1) {
+            firstY += ((float) step - 1f) / 2f;
+        }
+
+        prepareLabelPositions(firstY, modulus * (step + bd.getGroupSpace()), true);
 
-            mTrans.pointValuesToPixel(position);
+        float[] position = mLabelPositions;
+        final float first = position[1];
+        final float labelStep = position[3];
+
+        for (int i = mMinX, k = 0; i <= mMaxX; i += modulus, k++) {
+
+            position[1] = first + k * labelStep;
 
             if (mViewPortHandler.isInBoundsY(position[1])) {
 
@@ -136,10 +137,6 @@ public class XAxisRendererHorizontalBarChart extends XAxisRendererBarChart {
         if (!mXAxis.isDrawGridLinesEnabled() || !mXAxis.isEnabled())
             return;
 
-        float[] position = new float[] {
-                0f, 0f
-        };
-        
         mGridPaint.setColor(mXAxis.getGridColor());
         mGridPaint.setStrokeWidth(mXAxis.getGridLineWidth());
 
@@ -147,18 +144,31 @@ public class XAxisRendererHorizontalBarChart extends XAxisRendererBarChart {
         // take into consideration that multiple DataSets increase mDeltaX
         int step = bd.getDataSetCount();
 
-        for (int i = mMinX; i <= mMaxX; i += mXAxis.mAxisLabelModulus) {
+        final int modulus = mXAxis.mAxisLabelModulus;
 
-            position[1] = i * step + i * bd.getGroupSpace() - 0.5f;
+        prepareLabelPositions(mMinX * step + mMinX * bd.getGroupSpace() - 0.5f,
+                modulus * (step + bd.getGroupSpace()), true);
 
-            mTrans.pointValuesToPixel(position);
+        final float first = mLabelPositions[1];
+        final float lineStep = mLabelPositions[3];
 
-            if (mViewPortHandler.isInBoundsY(position[1])) {
+        float[] segments = getLineSegmentsBuffer((mMaxX - mMinX) / modulus + 1);
+        int size = 0;
+
+        for (int i = mMinX, k = 0; i <= mMaxX; i += modulus, k++) {
 
-                c.drawLine(mViewPortHandler.contentLeft(), position[1],
-                        mViewPortHandler.contentRight(), position[1], mGridPaint);
+            float y = first + k * lineStep;
+
+            if (mViewPortHandler.isInBoundsY(y)) {
+
+                segments[size++] = mViewPortHandler.contentLeft();
+                segments[size++] = y;
+                segments[size++] = mViewPortHandler.contentRight();
+                segments[size++] = y;
             }
         }
+
+        drawLineSegments(c, segments, size, mGridPaint);
     }
 
     @Override
@@ -201,31 +211,22 @@ public class XAxisRendererHorizontalBarChart extends XAxisRendererBarChart {
 		if (limitLines == null || limitLines.size() <= 0)
 			return;
 
-		float[] pts = new float[2];
-		Path limitLinePath = new Path();
+		float[] pixels = computeLimitLinePixels(limitLines, false);
 
-		for (int i = 0; i < limitLines.size(); i++) {
+		// the lines are batched by style, the labels are drawn on top
+		renderLimitLineLines(c, limitLines, pixels, false);
 
-			LimitLine l = limitLines.get(i);
+		float[] pts = mLimitLinePoint;
 
-            if(!l.isEnabled())
-                continue;
-
-			mLimitLinePaint.setStyle(Paint.Style.STROKE);
-			mLimitLinePaint.setColor(l.getLineColor());
-			mLimitLinePaint.setStrokeWidth(l.getLineWidth());
-			mLimitLinePaint.setPathEffect(l.getDashPathEffect());
-
-			pts[1] = l.getLimit();
+		for (int i = 0; i < limitLines.size(); i++) {
 
-			mTrans.pointValuesToPixel(pts);
+			// disabled or outside of the content area
+			if (Float.isNaN(pixels[i]))
+				continue;
 
-			limitLinePath.moveTo(mViewPortHandler.contentLeft(), pts[1]);
-			limitLinePath.lineTo(mViewPortHandler.contentRight(), pts[1]);
+			LimitLine l = limitLines.get(i);
 
-			c.drawPath(limitLinePath, mLimitLinePaint);
-			limitLinePath.reset();
-			// c.drawLines(pts, mLimitLinePaint);
+			pts[1] = pixels[i];
 
 			String label = l.getLabel();
 
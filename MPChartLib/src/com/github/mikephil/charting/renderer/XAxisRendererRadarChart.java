@@ -13,6 +13,12 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
 
     private RadarChart mChart;
 
+    /** buffer for the position of a label */
+    private PointF mPositionBuffer = new PointF();
+
+    /** buffer for the center of the chart */
+    private PointF mCenterBuffer = new PointF();
+
     public XAxisRendererRadarChart(ViewPortHandler viewPortHandler, XAxis xAxis, RadarChart chart) {
         super(viewPortHandler, xAxis, null);
 
@@ -26,7 +32,7 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
             return;
 
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
-        final PointF drawLabelAnchor = new PointF(0.5f, 0.0f);
+        final PointF drawLabelAnchor = labelAnchor(0.5f, 0.0f);
 
         mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
@@ -38,7 +44,7 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
         // pixels
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        PointF center = mChart.getCenterOffsets(mCenterBuffer);
 
         int mod = mXAxis.mAxisLabelModulus;
         for (int i = 0; i < mXAxis.getValues().size(); i += mod) {
@@ -47,7 +53,7 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
             float angle = (sliceangle * i + mChart.getRotationAngle()) % 360f;
 
             PointF p = Utils.getPosition(center, mChart.getYRange() * factor
-                    + mXAxis.mLabelRotatedWidth / 2f, angle);
+                    + mXAxis.mLabelRotatedWidth / 2f, angle, mPositionBuffer);
 
             drawLabel(c, label, i, p.x, p.y - mXAxis.mLabelRotatedHeight / 2.f,
                     drawLabelAnchor, labelRotationAngleDegrees);
@@ -2,14 +2,14 @@ package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.Paint;
 import android.graphics.Paint.Align;
-import android.graphics.Path;
 
 import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.components.YAxis.YAxisLabelPosition;
+import com.github.mikephil.charting.formatter.CharValueFormatter;
+import com.github.mikephil.charting.formatter.YAxisValueFormatter;
 import com.github.mikephil.charting.utils.PointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
@@ -21,6 +21,16 @@ public class YAxisRenderer extends AxisRenderer {
 
     protected YAxis mYAxis;
 
+    /** the chars of the label that is drawn, see drawYLabel(...) */
+    protected char[] mLabelChars = new char[CharValueFormatter.MAX_LENGTH];
+
+    /** buffers for the values at the edges of the content area */
+    protected PointD mRangePoint1 = new PointD(0, 0);
+    protected PointD mRangePoint2 = new PointD(0, 0);
+
+    /** buffer for the pixel positions of the labels */
+    protected float[] mLabelPositions = new float[16];
+
     public YAxisRenderer(ViewPortHandler viewPortHandler, YAxis yAxis, Transformer trans) {
         super(viewPortHandler, trans);
 
@@ -42,8 +52,10 @@ public class YAxisRenderer extends AxisRenderer {
         // zoom / contentrect bounds)
         if (mViewPortHandler.contentWidth() > 10 && !mViewPortHandler.isFullyZoomedOutY()) {
 
-            PointD p1 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentTop());
-            PointD p2 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom());
+            PointD p1 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(),
+                    mViewPortHandler.contentTop(), mRangePoint1);
+            PointD p2 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(),
+                    mViewPortHandler.contentBottom(), mRangePoint2);
 
             if (!mYAxis.isInverted()) {
                 yMin = (float) p2.y;
@@ -66,6 +78,10 @@ public class YAxisRenderer extends AxisRenderer {
      */
     protected void computeAxisValues(float min, float max) {
 
+        // the entries only change with the range or the label settings
+        if (!mYAxis.needsEntriesUpdate(min, max))
+            return;
+
         float yMin = min;
         float yMax = max;
 
@@ -159,16 +175,17 @@ public class YAxisRenderer extends AxisRenderer {
         if (!mYAxis.isEnabled() || !mYAxis.isDrawLabelsEnabled())
             return;
 
-        float[] positions = new float[mYAxis.mEntryCount * 2];
+        float[] positions = getLabelPositionsBuffer(mYAxis.mEntryCount);
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < mYAxis.mEntryCount * 2; i += 2) {
             // only fill y values, x values are not needed since the y-labels
             // are
             // static on the x-axis
+            positions[i] = 0f;
             positions[i + 1] = mYAxis.mEntries[i / 2];
         }
 
-        mTrans.pointValuesToPixel(positions);
+        mTrans.pointValuesToPixel(positions, 0, mYAxis.mEntryCount * 2);
 
         mAxisLabelPaint.setTypeface(mYAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mYAxis.getTextSize());
@@ -206,6 +223,21 @@ public class YAxisRenderer extends AxisRenderer {
         drawYLabels(c, xPos, positions, yoffset);
     }
 
+    /**
+     * Returns a reused buffer with room for the pixel positions of the given
+     * number of labels.
+     *
+     * @param labelCount
+     * @return
+     */
+    protected float[] getLabelPositionsBuffer(int labelCount) {
+
+        if (mLabelPositions.length < labelCount * 2)
+            mLabelPositions = new float[labelCount * 2];
+
+        return mLabelPositions;
+    }
+
     @Override
     public void renderAxisLine(Canvas c) {
 
@@ -235,12 +267,33 @@ public class YAxisRenderer extends AxisRenderer {
         // draw
         for (int i = 0; i < mYAxis.mEntryCount; i++) {
 
-            String text = mYAxis.getFormattedLabel(i);
-
             if (!mYAxis.isDrawTopYLabelEntryEnabled() && i >= mYAxis.mEntryCount - 1)
                 return;
 
-            c.drawText(text, fixedPosition, positions[i * 2 + 1] + offset, mAxisLabelPaint);
+            drawYLabel(c, i, fixedPosition, positions[i * 2 + 1] + offset);
+        }
+    }
+
+    /**
+     * Draws the label of the axis entry at the given index. Formatters
+     * implementing CharValueFormatter write the label into a reused
+     * char-array instead of creating a String.
+     *
+     * @param c
+     * @param index
+     * @param x
+     * @param y
+     */
+    protected void drawYLabel(Canvas c, int index, float x, float y) {
+
+        YAxisValueFormatter formatter = mYAxis.getValueFormatter();
+
+        if (formatter instanceof CharValueFormatter) {
+            int length = ((CharValueFormatter) formatter).formatValue(mYAxis.mEntries[index],
+                    mLabelChars);
+            c.drawText(mLabelChars, 0, length, x, y, mAxisLabelPaint);
+        } else {
+            c.drawText(mYAxis.getFormattedLabel(index), x, y, mAxisLabelPaint);
         }
     }
 
@@ -250,29 +303,29 @@ public class YAxisRenderer extends AxisRenderer {
         if (!mYAxis.isDrawGridLinesEnabled() || !mYAxis.isEnabled())
             return;
 
-        // pre alloc
-        float[] position = new float[2];
-
         mGridPaint.setColor(mYAxis.getGridColor());
         mGridPaint.setStrokeWidth(mYAxis.getGridLineWidth());
         mGridPaint.setPathEffect(mYAxis.getGridDashPathEffect());
 
-        Path gridLinePath = new Path();
+        final int count = mYAxis.mEntryCount;
 
-        // draw the horizontal grid
-        for (int i = 0; i < mYAxis.mEntryCount; i++) {
-
-            position[1] = mYAxis.mEntries[i];
-            mTrans.pointValuesToPixel(position);
+        float[] segments = getLineSegmentsBuffer(count);
 
-            gridLinePath.moveTo(mViewPortHandler.offsetLeft(), position[1]);
-            gridLinePath.lineTo(mViewPortHandler.contentRight(), position[1]);
+        for (int i = 0; i < count; i++) {
+            segments[i * 4 + 1] = mYAxis.mEntries[i];
+            segments[i * 4 + 3] = mYAxis.mEntries[i];
+        }
 
-            // draw a path because lines don't support dashing on lower android versions
-            c.drawPath(gridLinePath, mGridPaint);
+        // transform all lines at once, only the y-values are needed
+        mTrans.pointValuesToPixel(segments, 0, count * 4);
 
-            gridLinePath.reset();
+        // draw the horizontal grid
+        for (int i = 0; i < count; i++) {
+            segments[i * 4] = mViewPortHandler.offsetLeft();
+            segments[i * 4 + 2] = mViewPortHandler.contentRight();
         }
+
+        drawLineSegments(c, segments, count * 4, mGridPaint);
     }
 
     /**
@@ -288,31 +341,22 @@ public class YAxisRenderer extends AxisRenderer {
         if (limitLines == null || limitLines.size() <= 0)
             return;
 
-        float[] pts = new float[2];
-        Path limitLinePath = new Path();
+        float[] pixels = computeLimitLinePixels(limitLines, false);
 
-        for (int i = 0; i < limitLines.size(); i++) {
+        // the lines are batched by style, the labels are drawn on top
+        renderLimitLineLines(c, limitLines, pixels, false);
 
-            LimitLine l = limitLines.get(i);
-
-            if(!l.isEnabled())
-                continue;
+        float[] pts = mLimitLinePoint;
 
-            mLimitLinePaint.setStyle(Paint.Style.STROKE);
-            mLimitLinePaint.setColor(l.getLineColor());
-            mLimitLinePaint.setStrokeWidth(l.getLineWidth());
-            mLimitLinePaint.setPathEffect(l.getDashPathEffect());
-
-            pts[1] = l.getLimit();
+        for (int i = 0; i < limitLines.size(); i++) {
 
-            mTrans.pointValuesToPixel(pts);
+            // disabled or outside of the content area
+            if (Float.isNaN(pixels[i]))
+                continue;
 
-            limitLinePath.moveTo(mViewPortHandler.contentLeft(), pts[1]);
-            limitLinePath.lineTo(mViewPortHandler.contentRight(), pts[1]);
+            LimitLine l = limitLines.get(i);
 
-            c.drawPath(limitLinePath, mLimitLinePaint);
-            limitLinePath.reset();
-            // c.drawLines(pts, mLimitLinePaint);
+            pts[1] = pixels[i];
 
             String label = l.getLabel();
 
@@ -2,9 +2,7 @@
 package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
-import android.graphics.Paint;
 import android.graphics.Paint.Align;
-import android.graphics.Path;
 
 import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.LimitLine.LimitLabelPosition;
@@ -40,9 +38,9 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         if (mViewPortHandler.contentHeight() > 10 && !mViewPortHandler.isFullyZoomedOutX()) {
 
             PointD p1 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentLeft(),
-                    mViewPortHandler.contentTop());
+                    mViewPortHandler.contentTop(), mRangePoint1);
             PointD p2 = mTrans.getValuesByTouchPoint(mViewPortHandler.contentRight(),
-                    mViewPortHandler.contentTop());
+                    mViewPortHandler.contentTop(), mRangePoint2);
 
             if (!mYAxis.isInverted()) {
                 yMin = (float) p1.x;
@@ -65,16 +63,17 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         if (!mYAxis.isEnabled() || !mYAxis.isDrawLabelsEnabled())
             return;
 
-        float[] positions = new float[mYAxis.mEntryCount * 2];
+        float[] positions = getLabelPositionsBuffer(mYAxis.mEntryCount);
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < mYAxis.mEntryCount * 2; i += 2) {
             // only fill y values, x values are not needed since the y-labels
             // are
             // static on the x-axis
             positions[i] = mYAxis.mEntries[i / 2];
+            positions[i + 1] = 0f;
         }
 
-        mTrans.pointValuesToPixel(positions);
+        mTrans.pointValuesToPixel(positions, 0, mYAxis.mEntryCount * 2);
 
         mAxisLabelPaint.setTypeface(mYAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mYAxis.getTextSize());
@@ -144,12 +143,10 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
 
         for (int i = 0; i < mYAxis.mEntryCount; i++) {
 
-            String text = mYAxis.getFormattedLabel(i);
-
             if (!mYAxis.isDrawTopYLabelEntryEnabled() && i >= mYAxis.mEntryCount - 1)
                 return;
 
-            c.drawText(text, positions[i * 2], fixedPosition - offset, mAxisLabelPaint);
+            drawYLabel(c, i, positions[i * 2], fixedPosition - offset);
         }
     }
 
@@ -159,22 +156,28 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         if (!mYAxis.isDrawGridLinesEnabled() || !mYAxis.isEnabled())
             return;
 
-        // pre alloc
-        float[] position = new float[2];
-
         mGridPaint.setColor(mYAxis.getGridColor());
         mGridPaint.setStrokeWidth(mYAxis.getGridLineWidth());
 
-        // draw the horizontal grid
-        for (int i = 0; i < mYAxis.mEntryCount; i++) {
+        final int count = mYAxis.mEntryCount;
 
-            position[0] = mYAxis.mEntries[i];
-            mTrans.pointValuesToPixel(position);
+        float[] segments = getLineSegmentsBuffer(count);
 
-            c.drawLine(position[0], mViewPortHandler.contentTop(), position[0],
-                    mViewPortHandler.contentBottom(),
-                    mGridPaint);
+        for (int i = 0; i < count; i++) {
+            segments[i * 4] = mYAxis.mEntries[i];
+            segments[i * 4 + 2] = mYAxis.mEntries[i];
         }
+
+        // transform all lines at once, only the x-values are needed
+        mTrans.pointValuesToPixel(segments, 0, count * 4);
+
+        // draw the vertical grid
+        for (int i = 0; i < count; i++) {
+            segments[i * 4 + 1] = mViewPortHandler.contentTop();
+            segments[i * 4 + 3] = mViewPortHandler.contentBottom();
+        }
+
+        drawLineSegments(c, segments, count * 4, mGridPaint);
     }
     
     /**
@@ -191,34 +194,22 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         if (limitLines == null || limitLines.size() <= 0)
             return;
 
-        float[] pts = new float[4];
-        Path limitLinePath = new Path();
-               
-        for (int i = 0; i < limitLines.size(); i++) {
+        float[] pixels = computeLimitLinePixels(limitLines, true);
 
-            LimitLine l = limitLines.get(i);
+        // the lines are batched by style, the labels are drawn on top
+        renderLimitLineLines(c, limitLines, pixels, true);
 
-            if(!l.isEnabled())
-                continue;
-            
-            pts[0] = l.getLimit();
-            pts[2] = l.getLimit();
+        float[] pts = mLimitLinePoint;
 
-            mTrans.pointValuesToPixel(pts);
+        for (int i = 0; i < limitLines.size(); i++) {
 
-            pts[1] = mViewPortHandler.contentTop();
-            pts[3] = mViewPortHandler.contentBottom();
-            
-            limitLinePath.moveTo(pts[0], pts[1]);
-            limitLinePath.lineTo(pts[2], pts[3]);
+            // disabled or outside of the content area
+            if (Float.isNaN(pixels[i]))
+                continue;
 
-			mLimitLinePaint.setStyle(Paint.Style.STROKE);
-            mLimitLinePaint.setColor(l.getLineColor());
-            mLimitLinePaint.setPathEffect(l.getDashPathEffect());
-            mLimitLinePaint.setStrokeWidth(l.getLineWidth());
+            LimitLine l = limitLines.get(i);
 
-            c.drawPath(limitLinePath, mLimitLinePaint);
-            limitLinePath.reset();
+            pts[0] = pixels[i];
 
             String label = l.getLabel();
 
@@ -16,6 +16,15 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
     private RadarChart mChart;
 
+    /** buffer for positions around the center */
+    private PointF mPositionBuffer = new PointF();
+
+    /** buffer for the center of the chart */
+    private PointF mCenterBuffer = new PointF();
+
+    /** path for the limit lines, reused */
+    private Path mLimitLinePath = new Path();
+
     public YAxisRendererRadarChart(ViewPortHandler viewPortHandler, YAxis yAxis, RadarChart chart) {
         super(viewPortHandler, yAxis, null);
 
@@ -144,7 +153,7 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
         mAxisLabelPaint.setTextSize(mYAxis.getTextSize());
         mAxisLabelPaint.setColor(mYAxis.getTextColor());
 
-        PointF center = mChart.getCenterOffsets();
+        PointF center = mChart.getCenterOffsets(mCenterBuffer);
         float factor = mChart.getFactor();
 
         int labelCount = mYAxis.mEntryCount;
@@ -156,11 +165,9 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
             float r = (mYAxis.mEntries[j] - mYAxis.mAxisMinimum) * factor;
 
-            PointF p = Utils.getPosition(center, r, mChart.getRotationAngle());
-
-            String label = mYAxis.getFormattedLabel(j);
+            PointF p = Utils.getPosition(center, r, mChart.getRotationAngle(), mPositionBuffer);
 
-            c.drawText(label, p.x + 10, p.y, mAxisLabelPaint);
+            drawYLabel(c, j, p.x + 10, p.y);
         }
     }
 
@@ -178,7 +185,7 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
         // pixels
         float factor = mChart.getFactor();
 
-        PointF center = mChart.getCenterOffsets();
+        PointF center = mChart.getCenterOffsets(mCenterBuffer);
 
         for (int i = 0; i < limitLines.size(); i++) {
 
@@ -193,11 +200,12 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
             float r = (l.getLimit() - mChart.getYChartMin()) * factor;
 
-            Path limitPath = new Path();
+            Path limitPath = mLimitLinePath;
+            limitPath.reset();
 
             for (int j = 0; j < mChart.getData().getXValCount(); j++) {
 
-                PointF p = Utils.getPosition(center, r, sliceangle * j + mChart.getRotationAngle());
+                PointF p = Utils.getPosition(center, r, sliceangle * j + mChart.getRotationAngle(), mPositionBuffer);
 
                 if (j == 0)
                     limitPath.moveTo(p.x, p.y);
@@ -2,13 +2,17 @@
 package com.github.mikephil.charting.utils;
 
 /**
- * Immutable class for describing width and height dimensions in some arbitrary
+ * Class for describing width and height dimensions in some arbitrary
  * unit. Replacement for the android.Util.SizeF which is available only on API >= 21.
+ * Mutable, so that an instance can be reused as output parameter.
  */
 public final class FSize {
 
-    public final float width;
-    public final float height;
+    public float width;
+    public float height;
+
+    public FSize() {
+    }
 
     public FSize(final float width, final float height) {
         this.width = width;
@@ -0,0 +1,109 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Coarse grid of cells covering the chart that remembers which areas are
+ * already occupied, e.g. by drawn value-labels. Rectangles are tested and
+ * marked cell by cell, so the test is conservative by up to one cell size.
+ * Resetting the grid for a new frame is done in constant time.
+ */
+public class OccupancyGrid {
+
+    /** the width and height of a cell in pixels */
+    private final int mCellSize;
+
+    private int mColumns = 0;
+    private int mRows = 0;
+
+    /** a cell is occupied if it holds the current stamp */
+    private int[] mCells = new int[0];
+    private int mStamp = 1;
+
+    /**
+     * Creates a new grid with cells of the given size in pixels.
+     *
+     * @param cellSize
+     */
+    public OccupancyGrid(int cellSize) {
+        mCellSize = Math.max(cellSize, 1);
+    }
+
+    public int getCellSize() {
+        return mCellSize;
+    }
+
+    /**
+     * Marks all cells as free and makes sure the grid covers the given area.
+     *
+     * @param width
+     * @param height
+     */
+    public void reset(int width, int height) {
+
+        mColumns = Math.max((width + mCellSize - 1) / mCellSize, 1);
+        mRows = Math.max((height + mCellSize - 1) / mCellSize, 1);
+
+        if (mCells.length < mColumns * mRows) {
+            mCells = new int[mColumns * mRows];
+            mStamp = 1;
+        } else if (mStamp == Integer.MAX_VALUE) {
+            Arrays.fill(mCells, 0);
+            mStamp = 1;
+        } else {
+            mStamp++;
+        }
+    }
+
+    /**
+     * Returns true if the cell containing the given point is occupied.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public boolean isOccupied(float x, float y) {
+
+        int col = (int) Math.floor(x / mCellSize);
+        int row = (int) Math.floor(y / mCellSize);
+
+        if (col < 0 || row < 0 || col >= mColumns || row >= mRows)
+            return false;
+
+        return mCells[row * mColumns + col] == mStamp;
+    }
+
+    /**
+     * Marks the cells covered by the given rectangle as occupied if none of
+     * them is occupied yet. Returns false (and marks nothing) otherwise.
+     * Parts of the rectangle outside the grid are ignored.
+     *
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @return
+     */
+    public boolean tryOccupy(float left, float top, float right, float bottom) {
+
+        int fromCol = Math.max((int) Math.floor(left / mCellSize), 0);
+        int fromRow = Math.max((int) Math.floor(top / mCellSize), 0);
+        int toCol = Math.min((int) Math.floor(right / mCellSize), mColumns - 1);
+        int toRow = Math.min((int) Math.floor(bottom / mCellSize), mRows - 1);
+
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+                if (mCells[row * mColumns + col] == mStamp)
+                    return false;
+            }
+        }
+
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+                mCells[row * mColumns + col] = mStamp;
+            }
+        }
+
+        return true;
+    }
+}
@@ -29,6 +29,53 @@ public class Transformer {
      */
     protected Matrix mMatrixOffset = new Matrix();
 
+    /**
+     * incremented whenever the value or offset matrix changes, subclasses
+     * modifying them need to increment it as well
+     */
+    protected int mMatrixVersion = 0;
+
+    /**
+     * the value, touch and offset matrix concatenated, see getFusedMatrix()
+     */
+    private Matrix mMatrixFused = new Matrix();
+
+    /**
+     * the version of the value and offset matrix and the values of the touch
+     * matrix mMatrixFused was built from, the touch matrix is compared by
+     * value because it is modified from outside (e.g. while dragging)
+     */
+    private int mFusedMatrixVersion = -1;
+    private final float[] mFusedTouchValues = new float[9];
+
+    /** buffer for the current values of the touch matrix */
+    private final float[] mTouchValuesBuffer = new float[9];
+
+    /**
+     * true if mMatrixFused only scales and translates, the factors are then
+     * held by the fields below
+     */
+    private boolean mFusedScaleTranslate = false;
+    private float mFusedScaleX = 1f;
+    private float mFusedScaleY = 1f;
+    private float mFusedTransX = 0f;
+    private float mFusedTransY = 0f;
+
+    private final float[] mFusedValues = new float[9];
+
+    /**
+     * the inverse of mMatrixFused, only recomputed if mMatrixFused changed,
+     * see getFusedInverseMatrix()
+     */
+    private Matrix mMatrixFusedInverse = new Matrix();
+    private boolean mFusedInverseOutdated = true;
+
+    /** the factors of the inverse if mMatrixFused only scales and translates */
+    private float mInverseScaleX = 1f;
+    private float mInverseScaleY = 1f;
+    private float mInverseTransX = 0f;
+    private float mInverseTransY = 0f;
+
     protected ViewPortHandler mViewPortHandler;
 
     public Transformer(ViewPortHandler viewPortHandler) {
@@ -51,6 +98,7 @@ public class Transformer {
 
         // setup all matrices
         mMatrixValueToPx.reset();
+        mMatrixVersion++;
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
     }
@@ -63,6 +111,7 @@ public class Transformer {
     public void prepareMatrixOffset(boolean inverted) {
 
         mMatrixOffset.reset();
+        mMatrixVersion++;
 
         // offset.postTranslate(mOffsetLeft, getHeight() - mOffsetBottom);
 
@@ -83,9 +132,187 @@ public class Transformer {
         // mOffsetBottom);
     }
 
+    /**
+     * Returns the value, touch and offset matrix concatenated in this order.
+     * The matrix is only rebuilt if one of them changed since the last call.
+     * Must not be modified.
+     *
+     * @return
+     */
+    protected Matrix getFusedMatrix() {
+
+        Matrix touch = mViewPortHandler.getMatrixTouch();
+
+        float[] touchValues = mTouchValuesBuffer;
+        touch.getValues(touchValues);
+
+        boolean touchChanged = false;
+
+        for (int i = 0; i < 9; i++) {
+            if (touchValues[i] != mFusedTouchValues[i]) {
+                touchChanged = true;
+                break;
+            }
+        }
+
+        if (mFusedMatrixVersion != mMatrixVersion || touchChanged) {
+
+            mMatrixFused.set(mMatrixValueToPx);
+            mMatrixFused.postConcat(touch);
+            mMatrixFused.postConcat(mMatrixOffset);
+
+            float[] vals = mFusedValues;
+            mMatrixFused.getValues(vals);
+
+            mFusedScaleTranslate = vals[Matrix.MSKEW_X] == 0f && vals[Matrix.MSKEW_Y] == 0f
+                    && vals[Matrix.MPERSP_0] == 0f && vals[Matrix.MPERSP_1] == 0f
+                    && vals[Matrix.MPERSP_2] == 1f;
+            mFusedScaleX = vals[Matrix.MSCALE_X];
+            mFusedScaleY = vals[Matrix.MSCALE_Y];
+            mFusedTransX = vals[Matrix.MTRANS_X];
+            mFusedTransY = vals[Matrix.MTRANS_Y];
+
+            mFusedMatrixVersion = mMatrixVersion;
+            System.arraycopy(touchValues, 0, mFusedTouchValues, 0, 9);
+            mFusedInverseOutdated = true;
+        }
+
+        return mMatrixFused;
+    }
+
+    /**
+     * Returns the inverse of the fused matrix, see getFusedMatrix(). It is
+     * only recomputed if one of the matrices changed since the last call.
+     * Must not be modified.
+     *
+     * @return
+     */
+    protected Matrix getFusedInverseMatrix() {
+
+        Matrix fused = getFusedMatrix();
+
+        if (mFusedInverseOutdated) {
+
+            if (!fused.invert(mMatrixFusedInverse))
+                mMatrixFusedInverse.reset();
+
+            if (mFusedScaleTranslate && mFusedScaleX != 0f && mFusedScaleY != 0f) {
+                mInverseScaleX = 1f / mFusedScaleX;
+                mInverseScaleY = 1f / mFusedScaleY;
+                // multiplied with the same factor as the pixels, so that the
+                // translation itself maps to exactly 0
+                mInverseTransX = -mFusedTransX * mInverseScaleX;
+                mInverseTransY = -mFusedTransY * mInverseScaleY;
+            }
+
+            mFusedInverseOutdated = false;
+        }
+
+        return mMatrixFusedInverse;
+    }
+
+    /**
+     * Scales and translates the given part of an array of points (x, y, x, y,
+     * ...) in place: x' = x * scaleX + transX, y' = y * scaleY + transY. Does
+     * not depend on any Android classes.
+     *
+     * @param pts
+     * @param offset the index of the first value (x) to transform
+     * @param count the number of values (not points) to transform
+     * @param scaleX
+     * @param scaleY
+     * @param transX
+     * @param transY
+     */
+    public static void scaleTranslatePoints(float[] pts, int offset, int count,
+                                            float scaleX, float scaleY, float transX, float transY) {
+
+        final int end = offset + (count & ~1);
+
+        for (int i = offset; i < end; i += 2) {
+            pts[i] = pts[i] * scaleX + transX;
+            pts[i + 1] = pts[i + 1] * scaleY + transY;
+        }
+    }
+
+    /**
+     * Like scaleTranslatePoints(...), but writes only the transformed points
+     * within the given bounds into the output array, one after another, and
+     * the index of each written point (relative to offset) into outIndices.
+     * The bounds are checked like ViewPortHandler.isInBounds(...) does it for
+     * its content rect. Returns the number of values (not points) written.
+     * The output array may be the input array if outOffset is not larger than
+     * offset.
+     *
+     * @param pts
+     * @param offset the index of the first value (x) to transform
+     * @param count the number of values (not points) to transform
+     * @param scaleX
+     * @param scaleY
+     * @param transX
+     * @param transY
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     * @param out
+     * @param outOffset the index of the first value to write
+     * @param outIndices array the point indices are written to, starting at
+     *            outOffset / 2, needs room for count / 2 indices
+     * @return
+     */
+    public static int scaleTranslatePointsInBounds(float[] pts, int offset, int count,
+                                                   float scaleX, float scaleY, float transX, float transY,
+                                                   float left, float top, float right, float bottom,
+                                                   float[] out, int outOffset, int[] outIndices) {
+
+        final int end = offset + (count & ~1);
+        int written = outOffset;
+
+        for (int i = offset; i < end; i += 2) {
+
+            float x = pts[i] * scaleX + transX;
+            float y = pts[i + 1] * scaleY + transY;
+
+            // right and bottom are compared with two decimals, like the
+            // ViewPortHandler does
+            if (left <= x && right >= (float) ((int) (x * 100.f)) / 100.f
+                    && top <= y && bottom >= (float) ((int) (y * 100.f)) / 100.f) {
+
+                out[written] = x;
+                out[written + 1] = y;
+                outIndices[written / 2] = (i - offset) / 2;
+                written += 2;
+            }
+        }
+
+        return written - outOffset;
+    }
+
+    /**
+     * the number of valid values in the array returned by the last call of
+     * one of the generateTransformedValues...(...) methods
+     */
+    protected int mTransformedValueCount = 0;
+
+    /**
+     * Returns the number of valid values (two per entry) in the array
+     * returned by the last call of one of the
+     * generateTransformedValues...(...) methods.
+     *
+     * @return
+     */
+    public int getTransformedValueCount() {
+        return mTransformedValueCount;
+    }
+
+    private float[] mValuePointsScatter = new float[0];
+
     /**
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the SCATTERCHART.
+     * The returned array is reused by the next call of this method and may be
+     * longer than needed, see getTransformedValueCount().
      *
      * @param entries
      * @return
@@ -93,9 +320,15 @@ public class Transformer {
     public float[] generateTransformedValuesScatter(List<? extends Entry> entries,
                                                     float phaseY) {
 
-        float[] valuePoints = new float[entries.size() * 2];
+        final int count = entries.size() * 2;
+
+        if (mValuePointsScatter.length < count)
+            mValuePointsScatter = new float[count];
 
-        for (int j = 0; j < valuePoints.length; j += 2) {
+        float[] valuePoints = mValuePointsScatter;
+        mTransformedValueCount = count;
+
+        for (int j = 0; j < count; j += 2) {
 
             Entry e = entries.get(j / 2);
 
@@ -105,14 +338,18 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count);
 
         return valuePoints;
     }
 
+    private float[] mValuePointsBubble = new float[0];
+
     /**
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the BUBBLECHART.
+     * The returned array is reused by the next call of this method and may be
+     * longer than needed, see getTransformedValueCount().
      *
      * @param entries
      * @return
@@ -122,7 +359,11 @@ public class Transformer {
 
         final int count = (int) Math.ceil(to - from) * 2; // (int) Math.ceil((to - from) * phaseX) * 2;
 
-        float[] valuePoints = new float[count];
+        if (mValuePointsBubble.length < count)
+            mValuePointsBubble = new float[count];
+
+        float[] valuePoints = mValuePointsBubble;
+        mTransformedValueCount = count;
 
         for (int j = 0; j < count; j += 2) {
 
@@ -134,14 +375,18 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count);
 
         return valuePoints;
     }
 
+    private float[] mValuePointsLine = new float[0];
+
     /**
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the LINECHART.
+     * The returned array is reused by the next call of this method and may be
+     * longer than needed, see getTransformedValueCount().
      *
      * @param entries
      * @return
@@ -151,7 +396,11 @@ public class Transformer {
 
         final int count = (int) Math.ceil((to - from) * phaseX) * 2;
 
-        float[] valuePoints = new float[count];
+        if (mValuePointsLine.length < count)
+            mValuePointsLine = new float[count];
+
+        float[] valuePoints = mValuePointsLine;
+        mTransformedValueCount = count;
 
         for (int j = 0; j < count; j += 2) {
 
@@ -163,14 +412,18 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count);
 
         return valuePoints;
     }
 
+    private float[] mValuePointsCandle = new float[0];
+
     /**
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the CANDLESTICKCHART.
+     * The returned array is reused by the next call of this method and may be
+     * longer than needed, see getTransformedValueCount().
      *
      * @param entries
      * @return
@@ -180,7 +433,11 @@ public class Transformer {
 
         final int count = (int) Math.ceil((to - from) * phaseX) * 2;
 
-        float[] valuePoints = new float[count];
+        if (mValuePointsCandle.length < count)
+            mValuePointsCandle = new float[count];
+
+        float[] valuePoints = mValuePointsCandle;
+        mTransformedValueCount = count;
 
         for (int j = 0; j < count; j += 2) {
 
@@ -192,14 +449,18 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count);
 
         return valuePoints;
     }
 
+    private float[] mValuePointsBar = new float[0];
+
     /**
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the BARCHART.
+     * The returned array is reused by the next call of this method and may be
+     * longer than needed, see getTransformedValueCount().
      *
      * @param entries
      * @param dataSet the dataset index
@@ -208,12 +469,18 @@ public class Transformer {
     public float[] generateTransformedValuesBarChart(List<? extends Entry> entries,
                                                      int dataSet, BarData bd, float phaseY) {
 
-        float[] valuePoints = new float[entries.size() * 2];
+        final int count = entries.size() * 2;
+
+        if (mValuePointsBar.length < count)
+            mValuePointsBar = new float[count];
+
+        float[] valuePoints = mValuePointsBar;
+        mTransformedValueCount = count;
 
         int setCount = bd.getDataSetCount();
         float space = bd.getGroupSpace();
 
-        for (int j = 0; j < valuePoints.length; j += 2) {
+        for (int j = 0; j < count; j += 2) {
 
             Entry e = entries.get(j / 2);
             int i = e.getXIndex();
@@ -227,14 +494,18 @@ public class Transformer {
             valuePoints[j + 1] = y * phaseY;
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count);
 
         return valuePoints;
     }
 
+    private float[] mValuePointsHorizontalBar = new float[0];
+
     /**
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the BARCHART.
+     * The returned array is reused by the next call of this method and may be
+     * longer than needed, see getTransformedValueCount().
      *
      * @param entries
      * @param dataSet the dataset index
@@ -243,12 +514,18 @@ public class Transformer {
     public float[] generateTransformedValuesHorizontalBarChart(List<? extends Entry> entries,
                                                                int dataSet, BarData bd, float phaseY) {
 
-        float[] valuePoints = new float[entries.size() * 2];
+        final int count = entries.size() * 2;
+
+        if (mValuePointsHorizontalBar.length < count)
+            mValuePointsHorizontalBar = new float[count];
+
+        float[] valuePoints = mValuePointsHorizontalBar;
+        mTransformedValueCount = count;
 
         int setCount = bd.getDataSetCount();
         float space = bd.getGroupSpace();
 
-        for (int j = 0; j < valuePoints.length; j += 2) {
+        for (int j = 0; j < count; j += 2) {
 
             Entry e = entries.get(j / 2);
             int i = e.getXIndex();
@@ -262,7 +539,7 @@ public class Transformer {
             valuePoints[j + 1] = x;
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count);
 
         return valuePoints;
     }
@@ -274,10 +551,7 @@ public class Transformer {
      * @param path
      */
     public void pathValueToPixel(Path path) {
-
-        path.transform(mMatrixValueToPx);
-        path.transform(mViewPortHandler.getMatrixTouch());
-        path.transform(mMatrixOffset);
+        path.transform(getFusedMatrix());
     }
 
     /**
@@ -299,10 +573,64 @@ public class Transformer {
      * @param pts
      */
     public void pointValuesToPixel(float[] pts) {
+        pointValuesToPixel(pts, 0, pts.length);
+    }
+
+    /**
+     * Transform the given part of an array of points with all matrices. VERY
+     * IMPORTANT: Keep matrix order "value-touch-offset" when transforming.
+     *
+     * @param pts
+     * @param offset the index of the first value (x) to transform
+     * @param count the number of values (not points) to transform
+     */
+    public void pointValuesToPixel(float[] pts, int offset, int count) {
+
+        Matrix m = getFusedMatrix();
+
+        if (mFusedScaleTranslate)
+            scaleTranslatePoints(pts, offset, count,
+                    mFusedScaleX, mFusedScaleY, mFusedTransX, mFusedTransY);
+        else
+            m.mapPoints(pts, offset, pts, offset, count / 2);
+    }
+
+    /**
+     * Transforms the given part of an array of points with all matrices and
+     * writes only the points within the content rect of the chart into the
+     * output array, one after another, together with the index of each
+     * written point (relative to offset), e.g. to look up its entry or color.
+     * Returns the number of values (not points) written. The output array may
+     * be the input array if outOffset is not larger than offset, the content
+     * of the input array is undefined afterwards otherwise.
+     *
+     * @param pts
+     * @param offset the index of the first value (x) to transform
+     * @param count the number of values (not points) to transform
+     * @param out
+     * @param outOffset the index of the first value to write
+     * @param outIndices array the point indices are written to, starting at
+     *            outOffset / 2, needs room for count / 2 indices
+     * @return
+     */
+    public int pointValuesToPixelInBounds(float[] pts, int offset, int count,
+                                          float[] out, int outOffset, int[] outIndices) {
+
+        RectF content = mViewPortHandler.getContentRect();
+
+        Matrix m = getFusedMatrix();
+
+        if (mFusedScaleTranslate)
+            return scaleTranslatePointsInBounds(pts, offset, count,
+                    mFusedScaleX, mFusedScaleY, mFusedTransX, mFusedTransY,
+                    content.left, content.top, content.right, content.bottom,
+                    out, outOffset, outIndices);
+
+        m.mapPoints(pts, offset, pts, offset, count / 2);
 
-        mMatrixValueToPx.mapPoints(pts);
-        mViewPortHandler.getMatrixTouch().mapPoints(pts);
-        mMatrixOffset.mapPoints(pts);
+        return scaleTranslatePointsInBounds(pts, offset, count, 1f, 1f, 0f, 0f,
+                content.left, content.top, content.right, content.bottom,
+                out, outOffset, outIndices);
     }
 
     /**
@@ -311,10 +639,7 @@ public class Transformer {
      * @param r
      */
     public void rectValueToPixel(RectF r) {
-
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -329,9 +654,7 @@ public class Transformer {
         r.top *= phaseY;
         r.bottom *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -340,10 +663,7 @@ public class Transformer {
      * @param r
      */
     public void rectValueToPixelHorizontal(RectF r) {
-
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -358,9 +678,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRect(r);
     }
 
     /**
@@ -370,10 +688,34 @@ public class Transformer {
      */
     public void rectValuesToPixel(List<RectF> rects) {
 
-        Matrix m = getValueToPixelMatrix();
-
         for (int i = 0; i < rects.size(); i++)
-            m.mapRect(rects.get(i));
+            mapRect(rects.get(i));
+    }
+
+    /**
+     * Maps the given rect with the fused matrix, without going through
+     * Matrix.mapRect(...) if it only scales and translates.
+     *
+     * @param r
+     */
+    private void mapRect(RectF r) {
+
+        Matrix m = getFusedMatrix();
+
+        if (!mFusedScaleTranslate) {
+            m.mapRect(r);
+            return;
+        }
+
+        float left = r.left * mFusedScaleX + mFusedTransX;
+        float right = r.right * mFusedScaleX + mFusedTransX;
+        float top = r.top * mFusedScaleY + mFusedTransY;
+        float bottom = r.bottom * mFusedScaleY + mFusedTransY;
+
+        r.left = Math.min(left, right);
+        r.right = Math.max(left, right);
+        r.top = Math.min(top, bottom);
+        r.bottom = Math.max(top, bottom);
     }
 
     /**
@@ -384,17 +726,13 @@ public class Transformer {
      */
     public void pixelsToValue(float[] pixels) {
 
-        Matrix tmp = new Matrix();
-
-        // invert all matrixes to convert back to the original value
-        mMatrixOffset.invert(tmp);
-        tmp.mapPoints(pixels);
+        Matrix inverse = getFusedInverseMatrix();
 
-        mViewPortHandler.getMatrixTouch().invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mMatrixValueToPx.invert(tmp);
-        tmp.mapPoints(pixels);
+        if (mFusedScaleTranslate && mFusedScaleX != 0f && mFusedScaleY != 0f)
+            scaleTranslatePoints(pixels, 0, pixels.length,
+                    mInverseScaleX, mInverseScaleY, mInverseTransX, mInverseTransY);
+        else
+            inverse.mapPoints(pixels);
     }
 
     /**
@@ -408,41 +746,71 @@ public class Transformer {
      * @return
      */
     public PointD getValuesByTouchPoint(float x, float y) {
+        return getValuesByTouchPoint(x, y, new PointD(0, 0));
+    }
+
+    private float[] mTouchPointBuffer = new float[2];
+
+    /**
+     * Like getValuesByTouchPoint(float, float), but writes the values into
+     * the given PointD instead of creating a new one.
+     *
+     * @param x
+     * @param y
+     * @param outputPoint
+     * @return the given outputPoint
+     */
+    public PointD getValuesByTouchPoint(float x, float y, PointD outputPoint) {
 
-        // create an array of the touch-point
-        float[] pts = new float[2];
+        float[] pts = mTouchPointBuffer;
         pts[0] = x;
         pts[1] = y;
 
         pixelsToValue(pts);
 
-        double xTouchVal = pts[0];
-        double yTouchVal = pts[1];
+        outputPoint.x = pts[0];
+        outputPoint.y = pts[1];
 
-        return new PointD(xTouchVal, yTouchVal);
+        return outputPoint;
     }
 
+    private Matrix mValueMatrixBuffer = new Matrix();
+
+    /**
+     * Returns a copy of the matrix that maps the values to the screen pixels.
+     * Modifying it has no effect, use prepareMatrixValuePx(...) instead.
+     *
+     * @return
+     */
     public Matrix getValueMatrix() {
-        return mMatrixValueToPx;
+        mValueMatrixBuffer.set(mMatrixValueToPx);
+        return mValueMatrixBuffer;
     }
 
+    private Matrix mOffsetMatrixBuffer = new Matrix();
+
+    /**
+     * Returns a copy of the matrix holding the offsets of the chart.
+     * Modifying it has no effect, use prepareMatrixOffset(...) instead.
+     *
+     * @return
+     */
     public Matrix getOffsetMatrix() {
-        return mMatrixOffset;
+        mOffsetMatrixBuffer.set(mMatrixOffset);
+        return mOffsetMatrixBuffer;
     }
 
     private Matrix mMBuffer1 = new Matrix();
 
     public Matrix getValueToPixelMatrix() {
-        mMBuffer1.set(mMatrixValueToPx);
-        mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
-        mMBuffer1.postConcat(mMatrixOffset);
+        mMBuffer1.set(getFusedMatrix());
         return mMBuffer1;
     }
 
     private Matrix mMBuffer2 = new Matrix();
 
     public Matrix getPixelToValueMatrix() {
-        getValueToPixelMatrix().invert(mMBuffer2);
+        mMBuffer2.set(getFusedInverseMatrix());
         return mMBuffer2;
     }
 }
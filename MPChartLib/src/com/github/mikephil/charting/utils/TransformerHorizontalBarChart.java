@@ -20,6 +20,7 @@ public class TransformerHorizontalBarChart extends Transformer {
     public void prepareMatrixOffset(boolean inverted) {
 
         mMatrixOffset.reset();
+        mMatrixVersion++;
 
         // offset.postTranslate(mOffsetLeft, getHeight() - mOffsetBottom);
 
@@ -16,6 +16,7 @@ import android.view.VelocityTracker;
 import android.view.View;
 import android.view.ViewConfiguration;
 
+import com.github.mikephil.charting.cache.TextMeasureCache;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 
 import java.util.List;
@@ -36,6 +37,12 @@ public abstract class Utils {
     public final static double DEG2RAD = (Math.PI / 180.0);
     public final static float FDEG2RAD = ((float)Math.PI / 180.f);
 
+    /**
+     * cache for the calcText...(...) methods, axis-labels, legend-labels and
+     * demo texts are measured over and over again during layout
+     */
+    private static final TextMeasureCache mTextMeasureCache = new TextMeasureCache(256);
+
     /**
      * initialize method, called inside the Chart.init() method.
      *
@@ -137,7 +144,7 @@ public abstract class Utils {
      * @return
      */
     public static int calcTextWidth(Paint paint, String demoText) {
-        return (int) paint.measureText(demoText);
+        return (int) mTextMeasureCache.measureText(paint, demoText);
     }
 
     /**
@@ -149,10 +156,7 @@ public abstract class Utils {
      * @return
      */
     public static int calcTextHeight(Paint paint, String demoText) {
-
-        Rect r = new Rect();
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
-        return r.height();
+        return mTextMeasureCache.getBoundsHeight(paint, demoText);
     }
 
     public static float getLineHeight(Paint paint) {
@@ -175,9 +179,31 @@ public abstract class Utils {
      */
     public static FSize calcTextSize(Paint paint, String demoText) {
 
-        Rect r = new Rect();
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
-        return new FSize(r.width(), r.height());
+        FSize result = new FSize();
+        calcTextSize(paint, demoText, result);
+        return result;
+    }
+
+    /**
+     * calculates the approximate size of a text, depending on a demo text,
+     * and writes it into the given FSize instead of allocating a new one
+     *
+     * @param paint
+     * @param demoText
+     * @param outputFSize
+     */
+    public static void calcTextSize(Paint paint, String demoText, FSize outputFSize) {
+        outputFSize.width = mTextMeasureCache.getBoundsWidth(paint, demoText);
+        outputFSize.height = mTextMeasureCache.getBoundsHeight(paint, demoText);
+    }
+
+    /**
+     * Removes all cached text measurements of the calcText...(...) methods.
+     * Only necessary to free memory, measurements are cached per typeface and
+     * text size and never become outdated.
+     */
+    public static void clearTextMeasureCache() {
+        mTextMeasureCache.clear();
     }
 
     /**
@@ -290,6 +316,109 @@ public abstract class Utils {
         return String.valueOf(out, start, out.length - start);
     }
 
+    /**
+     * Formats the given number to the given number of decimals into the given
+     * array without allocating any memory. NaN and infinite values are
+     * written as "NaN" and "\u221E".
+     *
+     * @param number
+     * @param digitCount        the number of decimals
+     * @param decimalChar       the character placed before the decimals
+     * @param separateChar      the character placed between the "thousands", 0 for no separation
+     * @param out               the array to write to, at least 64 chars after offset
+     * @param offset            the index of the first char to write
+     * @return the number of chars written
+     */
+    public static int formatNumber(double number, int digitCount, char decimalChar,
+                                   char separateChar, char[] out, int offset) {
+
+        int pos = offset;
+
+        if (Double.isNaN(number)) {
+            out[pos++] = 'N';
+            out[pos++] = 'a';
+            out[pos++] = 'N';
+            return pos - offset;
+        }
+
+        if (number < 0) {
+            number = -number;
+
+            // no minus sign if the number is rounded to zero
+            if (Math.round(number * POW_10[Math.min(Math.max(digitCount, 0), POW_10.length - 1)]) != 0)
+                out[pos++] = '-';
+        }
+
+        if (Double.isInfinite(number)) {
+            out[pos++] = '\u221E';
+            return pos - offset;
+        }
+
+        if (digitCount < 0)
+            digitCount = 0;
+        else if (digitCount > POW_10.length - 1)
+            digitCount = POW_10.length - 1;
+
+        double scaled = number * POW_10[digitCount];
+
+        // decimals are meaningless at this magnitude
+        if (scaled >= 1e18) {
+            digitCount = 0;
+            scaled = number;
+        }
+
+        // digits beyond the precision of a long are written as zeros
+        int trailingZeros = 0;
+
+        while (scaled >= 1e18) {
+            scaled /= 10.0;
+            trailingZeros++;
+        }
+
+        long lval = Math.round(scaled);
+        long intPart = lval / POW_10[digitCount];
+        long decimals = lval % POW_10[digitCount];
+
+        int intDigits = trailingZeros + 1;
+
+        for (long t = intPart; t >= 10; t /= 10)
+            intDigits++;
+
+        int separators = separateChar != 0 ? (intDigits - 1) / 3 : 0;
+
+        // write the integer digits from right to left
+        int i = pos + intDigits + separators - 1;
+
+        for (int d = 0; d < intDigits; d++) {
+
+            if (d > 0 && separators > 0 && d % 3 == 0)
+                out[i--] = separateChar;
+
+            if (d < trailingZeros) {
+                out[i--] = '0';
+            } else {
+                out[i--] = (char) ('0' + intPart % 10);
+                intPart /= 10;
+            }
+        }
+
+        pos += intDigits + separators;
+
+        if (digitCount > 0) {
+
+            out[pos++] = decimalChar;
+
+            for (int d = digitCount - 1; d >= 0; d--) {
+                out[pos + d] = (char) ('0' + decimals % 10);
+                decimals /= 10;
+            }
+
+            pos += digitCount;
+        }
+
+        return pos - offset;
+    }
+
     /**
      * rounds the given number to the next significant number
      *
@@ -444,6 +573,23 @@ public abstract class Utils {
         return p;
     }
 
+    /**
+     * Like getPosition(PointF, float, float), but writes the position into the
+     * given PointF instead of creating a new one.
+     *
+     * @param center
+     * @param dist
+     * @param angle in degrees, converted to radians internally
+     * @param outputPoint
+     * @return the given outputPoint
+     */
+    public static PointF getPosition(PointF center, float dist, float angle, PointF outputPoint) {
+
+        outputPoint.set((float) (center.x + dist * Math.cos(Math.toRadians(angle))),
+                (float) (center.y + dist * Math.sin(Math.toRadians(angle))));
+        return outputPoint;
+    }
+
     public static void velocityTrackerPointerUpCleanUpIfNecessary(MotionEvent ev,
                                                                   VelocityTracker tracker) {
 
@@ -23,6 +23,9 @@ public class ViewPortHandler {
      */
     protected RectF mContentRect = new RectF();
 
+    /** buffer for the values of the touch matrix, see limitTransAndScale(...) */
+    protected final float[] mMatrixBuffer = new float[9];
+
     protected float mChartWidth = 0f;
     protected float mChartHeight = 0f;
 
@@ -165,6 +168,18 @@ public class ViewPortHandler {
         return new PointF(mContentRect.centerX(), mContentRect.centerY());
     }
 
+    /**
+     * Like getContentCenter(), but writes the center into the given PointF
+     * instead of creating a new one.
+     *
+     * @param outputPoint
+     * @return the given outputPoint
+     */
+    public PointF getContentCenter(PointF outputPoint) {
+        outputPoint.set(mContentRect.centerX(), mContentRect.centerY());
+        return outputPoint;
+    }
+
     public float getChartHeight() {
         return mChartHeight;
     }
@@ -309,7 +324,7 @@ public class ViewPortHandler {
      */
     public void limitTransAndScale(Matrix matrix, RectF content) {
 
-        float[] vals = new float[9];
+        float[] vals = mMatrixBuffer;
         matrix.getValues(vals);
 
         float curTransX = vals[Matrix.MTRANS_X];
@@ -0,0 +1,283 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BubbleData;
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.CombinedData;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PieData;
+import com.github.mikephil.charting.data.PieDataSet;
+import com.github.mikephil.charting.data.RadarData;
+import com.github.mikephil.charting.data.RadarDataSet;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.renderer.CombinedChartRenderer;
+import com.github.mikephil.charting.utils.AllocationCounter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Makes sure the code paths run for every frame of the charts do not
+ * allocate. The charts are set up without a window and without measuring
+ * any text, their data is set directly instead of by setData(...).
+ */
+public class ChartAllocationTest {
+
+    private static final int COUNT = 200;
+
+    private final Canvas mCanvas = new Canvas();
+
+    private final Highlight[] mHighlights = new Highlight[] {
+            new Highlight(3, 0), new Highlight(50, 0), new Highlight(COUNT - 1, 0)
+    };
+
+    @Test
+    public void calcModulusDoesNotAllocate() {
+
+        final LineChart chart = prepare(new LineChart(null),
+                new LineData(createXVals(), new LineDataSet(createEntries(), "")));
+        final HorizontalBarChart horizontal = prepare(new HorizontalBarChart(null),
+                createBarData());
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+
+                for (int i = 1; i < 50; i++) {
+
+                    // a changed label size makes the modulus outdated
+                    chart.mXAxis.mLabelRotatedWidth = i;
+                    chart.calcModulus();
+
+                    horizontal.mXAxis.mLabelRotatedHeight = i;
+                    horizontal.calcModulus();
+                }
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    @Test
+    public void visibleXIndicesDoNotAllocate() {
+
+        final BarLineChartBase<?>[] charts = new BarLineChartBase<?>[] {
+                new LineChart(null), new BarChart(null), new HorizontalBarChart(null)
+        };
+
+        prepare(charts[0], new LineData(createXVals(), new LineDataSet(createEntries(), "")));
+        prepare(charts[1], createBarData());
+        prepare(charts[2], createBarData());
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+
+                for (BarLineChartBase<?> chart : charts) {
+                    chart.getLowestVisibleXIndex();
+                    chart.getHighestVisibleXIndex();
+                }
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    @Test
+    public void axisLabelsAndGridLinesDoNotAllocate() {
+
+        final BarLineChartBase<?>[] charts = new BarLineChartBase<?>[] {
+                new LineChart(null), new BarChart(null), new HorizontalBarChart(null)
+        };
+
+        prepare(charts[0], new LineData(createXVals(), new LineDataSet(createEntries(), "")));
+        prepare(charts[1], createBarData());
+        prepare(charts[2], createBarData());
+
+        final RadarChart radar = new RadarChart(null);
+        prepare(radar, new RadarData(createXVals(), new RadarDataSet(createEntries(), "")));
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+
+                for (BarLineChartBase<?> chart : charts) {
+
+                    chart.mXAxisRenderer.renderGridLines(mCanvas);
+                    chart.mAxisRendererLeft.renderGridLines(mCanvas);
+                    chart.mAxisRendererRight.renderGridLines(mCanvas);
+
+                    chart.mXAxisRenderer.renderAxisLabels(mCanvas);
+                    chart.mAxisRendererLeft.renderAxisLabels(mCanvas);
+                    chart.mAxisRendererRight.renderAxisLabels(mCanvas);
+                }
+
+                radar.mXAxisRenderer.renderAxisLabels(mCanvas);
+                radar.mYAxisRenderer.renderAxisLabels(mCanvas);
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    @Test
+    public void drawHighlightedDoesNotAllocate() {
+
+        CombinedData combined = new CombinedData(createXVals());
+        combined.setData(new LineData(createXVals(), new LineDataSet(createEntries(), "")));
+        combined.setData(createBarData());
+
+        final Chart<?>[] charts = new Chart<?>[] {
+                prepare(new LineChart(null),
+                        new LineData(createXVals(), new LineDataSet(createEntries(), ""))),
+                prepare(new BarChart(null), createBarData()),
+                prepare(new HorizontalBarChart(null), createBarData()),
+                prepare(new ScatterChart(null),
+                        new ScatterData(createXVals(), new ScatterDataSet(createEntries(), ""))),
+                prepare(new CandleStickChart(null),
+                        new CandleData(createXVals(), createCandleDataSet())),
+                prepare(new BubbleChart(null),
+                        new BubbleData(createXVals(), createBubbleDataSet())),
+                prepare(new PieChart(null),
+                        new PieData(createXVals(), new PieDataSet(createEntries(), ""))),
+                prepare(new RadarChart(null),
+                        new RadarData(createXVals(), new RadarDataSet(createEntries(), ""))),
+                prepare(new CombinedChart(null), combined)
+        };
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+
+                for (Chart<?> chart : charts)
+                    chart.getRenderer().drawHighlighted(mCanvas, mHighlights);
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    /**
+     * Sets the data of the given chart the way setData(...) and
+     * notifyDataSetChanged() do, except for computing the legend and the
+     * offsets, which measure text.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static <T extends Chart<?>> T prepare(T chart, Object data) {
+
+        Chart raw = chart;
+
+        raw.mData = (com.github.mikephil.charting.data.ChartData) data;
+        raw.mDataNotSet = false;
+
+        if (chart instanceof CombinedChart)
+            raw.mRenderer = new CombinedChartRenderer((CombinedChart) chart, chart.mAnimator,
+                    chart.mViewPortHandler);
+
+        chart.getViewPortHandler().setChartDimens(600f, 400f);
+        chart.getViewPortHandler().restrainViewPort(40f, 20f, 40f, 30f);
+
+        chart.mRenderer.initBuffers();
+
+        chart.calcMinMax();
+
+        if (chart instanceof BarLineChartBase) {
+
+            BarLineChartBase barLine = (BarLineChartBase) chart;
+
+            barLine.mAxisRendererLeft.computeAxis(barLine.mAxisLeft.mAxisMinimum,
+                    barLine.mAxisLeft.mAxisMaximum);
+            barLine.mAxisRendererRight.computeAxis(barLine.mAxisRight.mAxisMinimum,
+                    barLine.mAxisRight.mAxisMaximum);
+            barLine.mXAxisRenderer.computeAxis(barLine.mData.getXValAverageLength(),
+                    barLine.mData.getXVals());
+
+            barLine.prepareOffsetMatrix();
+            barLine.prepareValuePxMatrix();
+            barLine.calcModulus();
+
+        } else if (chart instanceof RadarChart) {
+
+            RadarChart radar = (RadarChart) chart;
+
+            radar.mYAxisRenderer.computeAxis(radar.getYAxis().mAxisMinimum,
+                    radar.getYAxis().mAxisMaximum);
+            radar.mXAxisRenderer.computeAxis(radar.mData.getXValAverageLength(),
+                    radar.mData.getXVals());
+        }
+
+        // e.g. the pie chart highlights into the bitmap of its data
+        chart.mRenderer.drawData(new Canvas());
+
+        return chart;
+    }
+
+    private static ArrayList<String> createXVals() {
+
+        ArrayList<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < COUNT; i++)
+            xVals.add("x" + i);
+
+        return xVals;
+    }
+
+    private static ArrayList<Entry> createEntries() {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new Entry((float) Math.sin(i / 10.0) * 50f + 60f, i));
+
+        return entries;
+    }
+
+    private static BarData createBarData() {
+
+        ArrayList<BarEntry> entries = new ArrayList<BarEntry>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new BarEntry((float) Math.cos(i / 10.0) * 50f, i));
+
+        return new BarData(createXVals(), new BarDataSet(entries, ""));
+    }
+
+    private static CandleDataSet createCandleDataSet() {
+
+        ArrayList<CandleEntry> entries = new ArrayList<CandleEntry>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new CandleEntry(i, 60f + i % 7, 40f - i % 5, 45f, 55f));
+
+        return new CandleDataSet(entries, "");
+    }
+
+    private static BubbleDataSet createBubbleDataSet() {
+
+        ArrayList<BubbleEntry> entries = new ArrayList<BubbleEntry>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new BubbleEntry(i, i % 13, 1f + i % 4));
+
+        return new BubbleDataSet(entries, "");
+    }
+}
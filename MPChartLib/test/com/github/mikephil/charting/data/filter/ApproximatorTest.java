@@ -0,0 +1,163 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.filter.Approximator.ApproximatorType;
+import com.github.mikephil.charting.utils.AllocationCounter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ApproximatorTest {
+
+    @Test
+    public void douglasPeuckerReducesAStraightLineToItsEnds() {
+
+        float[] x = new float[50];
+        float[] y = new float[50];
+
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = i * 2f;
+        }
+
+        int[] out = new int[x.length];
+        Approximator approximator = new Approximator(ApproximatorType.DOUGLAS_PEUCKER, 10);
+
+        assertEquals(2, approximator.reduce(x, y, x.length, 10, out));
+        assertEquals(0, out[0]);
+        assertEquals(49, out[1]);
+    }
+
+    @Test
+    public void douglasPeuckerKeepsThePointsTheAngleCriterionKeeps() {
+
+        Random random = new Random(42);
+
+        for (int run = 0; run < 200; run++) {
+
+            int count = 3 + random.nextInt(200);
+
+            float[] x = new float[count];
+            float[] y = new float[count];
+
+            for (int i = 0; i < count; i++) {
+                x[i] = i;
+                y[i] = (i == 0 ? 0f : y[i - 1]) + (float) random.nextGaussian() * 3f;
+            }
+
+            double tolerance = 1 + random.nextInt(60);
+            float deltaRatio = 0.5f + random.nextFloat();
+            float scaleRatio = 0.5f + random.nextFloat();
+
+            Approximator approximator = new Approximator(ApproximatorType.DOUGLAS_PEUCKER,
+                    tolerance);
+            approximator.setRatios(deltaRatio, scaleRatio);
+
+            int[] out = new int[count];
+            int kept = approximator.reduce(x, y, count, tolerance, out);
+
+            List<Integer> expected = new ArrayList<Integer>();
+            reduceWithAngles(x, y, 0, count - 1, tolerance, deltaRatio, scaleRatio, expected);
+            expected.add(count - 1);
+
+            assertEquals(expected.size(), kept);
+
+            for (int i = 0; i < kept; i++)
+                assertEquals(expected.get(i).intValue(), out[i]);
+        }
+    }
+
+    @Test
+    public void lttbWritesAtMostThresholdIndices() {
+
+        float[] x = new float[20];
+        float[] y = new float[20];
+
+        for (int i = 0; i < x.length; i++)
+            x[i] = i;
+
+        Approximator approximator = new Approximator(ApproximatorType.LTTB, 2);
+
+        int[] out = new int[2];
+        assertEquals(2, approximator.reduce(x, y, x.length, 2, out));
+        assertEquals(0, out[0]);
+        assertEquals(19, out[1]);
+
+        out = new int[5];
+        assertEquals(5, approximator.reduce(x, y, x.length, 5, out));
+        assertEquals(0, out[0]);
+        assertEquals(19, out[4]);
+    }
+
+    @Test
+    public void reduceDoesNotAllocate() {
+
+        final float[] x = new float[10000];
+        final float[] y = new float[10000];
+
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = (float) (Math.sin(i / 50.0) * 100.0 + Math.cos(i / 3.0) * 5.0);
+        }
+
+        final int[] out = new int[x.length];
+
+        final Approximator dp = new Approximator(ApproximatorType.DOUGLAS_PEUCKER, 5);
+        final Approximator dpDistance = new Approximator(ApproximatorType.DOUGLAS_PEUCKER_DISTANCE, 5);
+        final Approximator lttb = new Approximator(ApproximatorType.LTTB, 500);
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+                dp.reduce(x, y, x.length, 5, out);
+                dpDistance.reduce(x, y, x.length, 5, out);
+                lttb.reduce(x, y, x.length, 500, out);
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    /**
+     * The recursive Douglas-Peucker algorithm with the angle criterion
+     * computed by atan2, as the reference for the trigonometry-free version.
+     */
+    private static void reduceWithAngles(float[] x, float[] y, int start, int end,
+            double tolerance, float deltaRatio, float scaleRatio, List<Integer> kept) {
+
+        int maxIndex = -1;
+
+        if (end > start + 1) {
+
+            float startX = x[start] * deltaRatio;
+            float startY = y[start] * scaleRatio;
+
+            double angle = Math.toDegrees(Math.atan2(y[end] * scaleRatio - startY,
+                    x[end] * deltaRatio - startX));
+            double maxAngle = tolerance;
+
+            for (int i = start + 1; i < end; i++) {
+
+                double dist = Math.abs(Math.toDegrees(Math.atan2(y[i] * scaleRatio - startY,
+                        x[i] * deltaRatio - startX)) - angle);
+
+                if (dist > maxAngle) {
+                    maxAngle = dist;
+                    maxIndex = i;
+                }
+            }
+        }
+
+        if (maxIndex == -1) {
+            kept.add(start);
+        } else {
+            reduceWithAngles(x, y, start, maxIndex, tolerance, deltaRatio, scaleRatio, kept);
+            reduceWithAngles(x, y, maxIndex, end, tolerance, deltaRatio, scaleRatio, kept);
+        }
+    }
+}
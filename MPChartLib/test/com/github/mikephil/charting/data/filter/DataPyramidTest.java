@@ -0,0 +1,164 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.Entry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DataPyramidTest {
+
+    @Test
+    public void appendAndRemoveKeepTheLevelsInSyncWithTheEntries() {
+
+        Random random = new Random(11);
+
+        for (int run = 0; run < 50; run++) {
+
+            int factor = 2 + random.nextInt(4);
+            List<Entry> entries = new ArrayList<Entry>();
+            int nextX = 0;
+
+            for (int i = random.nextInt(200); i > 0; i--)
+                entries.add(new Entry(random.nextFloat() * 100f, nextX++));
+
+            DataPyramid pyramid = new DataPyramid(factor);
+            pyramid.build(entries);
+
+            for (int step = 0; step < 400; step++) {
+
+                int op = random.nextInt(10);
+
+                if (op < 5) {
+                    Entry e = new Entry(random.nextFloat() * 100f - 50f, nextX++);
+                    entries.add(e);
+                    pyramid.append(e.getXIndex(), e.getVal());
+                } else if (entries.isEmpty()) {
+                    continue;
+                } else if (op < 8) {
+                    entries.remove(0);
+                    pyramid.removeFirst();
+                } else {
+                    entries.remove(entries.size() - 1);
+                    pyramid.removeLast();
+                }
+
+                assertMatches(pyramid, entries);
+            }
+        }
+    }
+
+    @Test
+    public void backgroundBuildDropsOldLevelsAndReplaysModifications() throws Exception {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 5000; i++)
+            entries.add(new Entry((float) Math.sin(i / 10.0), i));
+
+        DataPyramid pyramid = new DataPyramid(4);
+        pyramid.build(entries);
+
+        final CountDownLatch built = new CountDownLatch(1);
+
+        pyramid.buildInBackground(entries, new Runnable() {
+
+            @Override
+            public void run() {
+                built.countDown();
+            }
+        });
+
+        // the previous levels are not drawn while building, at least until
+        // the build is finished
+        assertTrue(built.getCount() == 0 || !pyramid.isReady());
+
+        for (int i = 0; i < 300; i++) {
+            entries.remove(0);
+            pyramid.removeFirst();
+        }
+
+        for (int i = 0; i < 100; i++) {
+            entries.remove(entries.size() - 1);
+            pyramid.removeLast();
+        }
+
+        for (int i = 5000; i < 5500; i++) {
+            Entry e = new Entry((float) Math.cos(i / 7.0), i);
+            entries.add(e);
+            pyramid.append(e.getXIndex(), e.getVal());
+        }
+
+        assertTrue(built.await(10, TimeUnit.SECONDS));
+        assertMatches(pyramid, entries);
+
+        pyramid.clear();
+        assertFalse(pyramid.isReady());
+    }
+
+    /**
+     * Checks that every level of the pyramid splits the given entries into
+     * buckets of "span" consecutive entries aligned like at the time of
+     * building, with the aggregates of the entries they contain.
+     */
+    private static void assertMatches(DataPyramid pyramid, List<Entry> entries) {
+
+        assertTrue(pyramid.isReady());
+
+        for (int l = 0; l < pyramid.getLevelCount(); l++) {
+
+            DataPyramid.Level level = pyramid.getLevel(l);
+
+            if (entries.isEmpty()) {
+                assertEquals(level.start, level.end);
+                continue;
+            }
+
+            int index = 0;
+
+            for (int b = level.start; b < level.end; b++) {
+
+                int count = level.count[b];
+
+                assertTrue(count > 0 && count <= level.span);
+
+                if (b > level.start && b < level.end - 1)
+                    assertEquals(level.span, count);
+
+                assertEquals(b, level.getBucketForEntry(index));
+                assertEquals(b, level.getBucketForEntry(index + count - 1));
+
+                float min = Float.MAX_VALUE;
+                float max = -Float.MAX_VALUE;
+                double sum = 0.0;
+
+                for (int i = index; i < index + count; i++) {
+                    float val = entries.get(i).getVal();
+                    min = Math.min(min, val);
+                    max = Math.max(max, val);
+                    sum += val;
+                }
+
+                assertEquals(entries.get(index).getXIndex(), level.xFrom[b]);
+                assertEquals(entries.get(index + count - 1).getXIndex(), level.xTo[b]);
+                assertEquals(entries.get(index).getVal(), level.first[b], 0f);
+                assertEquals(entries.get(index + count - 1).getVal(), level.last[b], 0f);
+                assertEquals(min, level.min[b], 0f);
+                assertEquals(max, level.max[b], 0f);
+                assertEquals(sum, level.sum[b], 1e-3);
+
+                index += count;
+            }
+
+            assertEquals(entries.size(), index);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.utils.AllocationCounter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class FastFormatterTest {
+
+    private Locale mDefaultLocale;
+
+    private final char[] mChars = new char[CharValueFormatter.MAX_LENGTH];
+
+    @Before
+    public void setUp() {
+        mDefaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(mDefaultLocale);
+    }
+
+    @Test
+    public void decimalFormatterFormatsLikeDecimalFormat() {
+
+        FastDecimalFormatter formatter = new FastDecimalFormatter(1);
+
+        assertEquals("1,234,567.8", format(formatter, 1234567.8f));
+        assertEquals("-0.5", format(formatter, -0.5f));
+        assertEquals("0.0", format(formatter, 0f));
+
+        formatter = new FastDecimalFormatter(0, false);
+
+        assertEquals("1235", format(formatter, 1234.5f));
+    }
+
+    @Test
+    public void largeValueFormatterFormatsLikeLargeValueFormatter() {
+
+        FastLargeValueFormatter formatter = new FastLargeValueFormatter();
+
+        assertEquals("856", format(formatter, 856f));
+        assertEquals("1k", format(formatter, 1000f));
+        assertEquals("1.0k", format(formatter, 1049f));
+        assertEquals("5.8k", format(formatter, 5821f));
+        assertEquals("10k", format(formatter, 10500f));
+        assertEquals("102k", format(formatter, 101800f));
+        assertEquals("7.8m", format(formatter, 7800000f));
+        assertEquals("10m", format(formatter, 9999999f));
+        assertEquals("1b", format(formatter, 1000000000f));
+        assertEquals("9.96", format(formatter, 9.96f));
+        assertEquals("12.3", format(formatter, 12.34f));
+        assertEquals("-5.8k", format(formatter, -5821f));
+
+        LargeValueFormatter original = new LargeValueFormatter();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10000; i++) {
+
+            float value = (float) Math.pow(10.0, random.nextDouble() * 11.0);
+
+            assertEquals(original.getFormattedValue(value, null, 0, null),
+                    format(formatter, value));
+        }
+    }
+
+    @Test
+    public void formatValueDoesNotAllocate() {
+
+        final FastDecimalFormatter decimal = new FastDecimalFormatter(2);
+        final FastLargeValueFormatter large = new FastLargeValueFormatter(" $");
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+
+                for (int i = 0; i < 1000; i++) {
+                    decimal.formatValue(i * 1234.567f - 50000f, mChars);
+                    large.formatValue(i * 98765.4f, mChars);
+                }
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    private String format(CharValueFormatter formatter, float value) {
+        return String.valueOf(mChars, 0, formatter.formatValue(value, mChars));
+    }
+}
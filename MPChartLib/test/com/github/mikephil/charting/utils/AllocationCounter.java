@@ -0,0 +1,55 @@
+package com.github.mikephil.charting.utils;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the bytes allocated by the current thread while running a piece of
+ * code, used by the tests that make sure the drawing related code paths do
+ * not allocate. Tests are skipped on JVMs that cannot count allocations.
+ */
+public final class AllocationCounter {
+
+    private AllocationCounter() {
+    }
+
+    /**
+     * Runs the given code a few times to warm it up and then once more,
+     * returning the number of bytes allocated by the last run.
+     *
+     * @param code
+     * @return
+     */
+    public static long countAllocatedBytes(Runnable code) {
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        long id = Thread.currentThread().getId();
+
+        for (int i = 0; i < 5; i++)
+            code.run();
+
+        // what querying the counter allocates itself
+        long overhead = Long.MAX_VALUE;
+
+        for (int i = 0; i < 5; i++) {
+            long start = threadBean.getThreadAllocatedBytes(id);
+            long end = threadBean.getThreadAllocatedBytes(id);
+            overhead = Math.min(overhead, end - start);
+        }
+
+        long start = threadBean.getThreadAllocatedBytes(id);
+        code.run();
+        long end = threadBean.getThreadAllocatedBytes(id);
+
+        return Math.max(end - start - overhead, 0);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Micro-benchmark of Transformer.scaleTranslatePoints(...) against a plain
+ * Java version of what Matrix.mapPoints(...) computes for any 3x3 matrix
+ * (skew and perspective included). Runs on the desktop JVM without any
+ * Android classes, e.g. from the IDE: prints the time per point of both and
+ * fails if their results differ. TransformerDeviceBenchmark compares against
+ * the real Matrix.mapPoints(...) on a device.
+ */
+public class TransformerBenchmark {
+
+    private static final int POINTS = 1000000;
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+
+        // scale and translate of a typical chart, in Matrix value order
+        final float[] matrix = new float[] {
+                3.5f, 0f, 48f,
+                0f, -0.25f, 1200f,
+                0f, 0f, 1f
+        };
+
+        float[] values = new float[POINTS * 2];
+
+        for (int i = 0; i < POINTS; i++) {
+            values[i * 2] = i;
+            values[i * 2 + 1] = (float) (Math.sin(i / 100.0) * 1000.0);
+        }
+
+        float[] generic = new float[values.length];
+        float[] fast = new float[values.length];
+
+        // warm up both before measuring
+        for (int i = 0; i < ROUNDS; i++) {
+            System.arraycopy(values, 0, generic, 0, values.length);
+            mapPoints(matrix, generic, 0, values.length);
+            System.arraycopy(values, 0, fast, 0, values.length);
+            Transformer.scaleTranslatePoints(fast, 0, values.length,
+                    matrix[0], matrix[4], matrix[2], matrix[5]);
+        }
+
+        long genericTime = 0;
+        long fastTime = 0;
+
+        for (int i = 0; i < ROUNDS; i++) {
+
+            System.arraycopy(values, 0, generic, 0, values.length);
+            long start = System.nanoTime();
+            mapPoints(matrix, generic, 0, values.length);
+            genericTime += System.nanoTime() - start;
+
+            System.arraycopy(values, 0, fast, 0, values.length);
+            start = System.nanoTime();
+            Transformer.scaleTranslatePoints(fast, 0, values.length,
+                    matrix[0], matrix[4], matrix[2], matrix[5]);
+            fastTime += System.nanoTime() - start;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (generic[i] != fast[i])
+                throw new AssertionError("Results differ at index " + i + ": " + generic[i]
+                        + " != " + fast[i]);
+        }
+
+        double points = (double) POINTS * ROUNDS;
+
+        System.out.println(String.format("generic 3x3 mapping:   %.3f ns per point",
+                genericTime / points));
+        System.out.println(String.format("scaleTranslatePoints:  %.3f ns per point",
+                fastTime / points));
+    }
+
+    /**
+     * Maps the given part of an array of points with the given 3x3 matrix
+     * (in the order of Matrix.getValues(...)) like Matrix.mapPoints(...)
+     * does, perspective division included.
+     */
+    private static void mapPoints(float[] m, float[] pts, int offset, int count) {
+
+        final int end = offset + (count & ~1);
+
+        for (int i = offset; i < end; i += 2) {
+
+            float x = pts[i];
+            float y = pts[i + 1];
+
+            float w = m[6] * x + m[7] * y + m[8];
+
+            if (w != 0f)
+                w = 1f / w;
+
+            pts[i] = (m[0] * x + m[1] * y + m[2]) * w;
+            pts[i + 1] = (m[3] * x + m[4] * y + m[5]) * w;
+        }
+    }
+}
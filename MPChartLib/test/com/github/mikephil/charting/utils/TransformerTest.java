@@ -0,0 +1,192 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.data.Entry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TransformerTest {
+
+    @Test
+    public void scaleTranslatePointsTransformsOnlyTheGivenRange() {
+
+        float[] pts = new float[] {
+                1f, 2f, 3f, 4f, 5f, 6f
+        };
+
+        Transformer.scaleTranslatePoints(pts, 2, 2, 2f, -3f, 10f, 100f);
+
+        assertEquals(1f, pts[0], 0f);
+        assertEquals(2f, pts[1], 0f);
+        assertEquals(16f, pts[2], 0f);
+        assertEquals(88f, pts[3], 0f);
+        assertEquals(5f, pts[4], 0f);
+        assertEquals(6f, pts[5], 0f);
+    }
+
+    @Test
+    public void scaleTranslatePointsInBoundsKeepsWhatTheViewPortHandlerKeeps() {
+
+        ViewPortHandler handler = new ViewPortHandler();
+        handler.setChartDimens(300f, 200f);
+        handler.restrainViewPort(20.5f, 10f, 30f, 15.25f);
+
+        RectF content = handler.getContentRect();
+        Random random = new Random(3);
+
+        float[] pts = new float[2000];
+
+        for (int i = 0; i < pts.length; i++)
+            pts[i] = random.nextFloat() * 400f - 50f;
+
+        float[] expected = pts.clone();
+        Transformer.scaleTranslatePoints(expected, 0, expected.length, 1.25f, -0.75f, 3f, 250f);
+
+        int[] indices = new int[pts.length / 2];
+
+        // compacts in place, the first two values are left alone
+        int size = Transformer.scaleTranslatePointsInBounds(pts, 2, pts.length - 2,
+                1.25f, -0.75f, 3f, 250f,
+                content.left, content.top, content.right, content.bottom,
+                pts, 2, indices);
+
+        int written = 0;
+
+        for (int i = 2; i < expected.length; i += 2) {
+
+            float x = expected[i];
+            float y = expected[i + 1];
+
+            if (!handler.isInBoundsLeft(x) || !handler.isInBoundsRight(x)
+                    || !handler.isInBoundsTop(y) || !handler.isInBoundsBottom(y))
+                continue;
+
+            assertEquals(x, pts[2 + written], 0f);
+            assertEquals(y, pts[3 + written], 0f);
+            assertEquals(i / 2 - 1, indices[1 + written / 2]);
+            written += 2;
+        }
+
+        assertEquals(written, size);
+    }
+
+    @Test
+    public void scaleTranslatePointsInBoundsDoesNotAllocate() {
+
+        final float[] pts = new float[2000];
+        final float[] out = new float[2000];
+        final int[] indices = new int[1000];
+
+        for (int i = 0; i < pts.length; i++)
+            pts[i] = i % 300;
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+                Transformer.scaleTranslatePointsInBounds(pts, 0, pts.length, 1.5f, -2f, 3f, 400f,
+                        10f, 10f, 290f, 190f, out, 0, indices);
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    @Test
+    public void generateTransformedValuesReportsTheValidCount() {
+
+        Transformer trans = new Transformer(new ViewPortHandler());
+        List<Entry> entries = createEntries(100);
+
+        trans.generateTransformedValuesLine(entries, 1f, 1f, 0, 100);
+        assertEquals(200, trans.getTransformedValueCount());
+
+        float[] positions = trans.generateTransformedValuesLine(entries, 1f, 1f, 10, 20);
+        assertEquals(20, trans.getTransformedValueCount());
+        assertEquals(200, positions.length);
+
+        trans.generateTransformedValuesScatter(entries, 1f);
+        assertEquals(200, trans.getTransformedValueCount());
+    }
+
+    @Test
+    public void generateTransformedValuesDoesNotAllocateWhilePanning() {
+
+        final Transformer trans = new Transformer(new ViewPortHandler());
+        final List<Entry> entries = createEntries(1000);
+
+        // the largest visible range first, the buffer is only grown once
+        trans.generateTransformedValuesLine(entries, 1f, 1f, 0, 1000);
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+
+                for (int from = 0; from < 900; from += 7) {
+                    trans.generateTransformedValuesLine(entries, 1f, 1f, from, from + 50 + from % 50);
+                    trans.generateTransformedValuesBubble(entries, 1f, 1f, from, from + 100);
+                }
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    @Test
+    public void scaleTranslatePointsDoesNotAllocate() {
+
+        final float[] pts = new float[2000];
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+                Transformer.scaleTranslatePoints(pts, 0, pts.length, 1.5f, -2f, 3f, 4f);
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    @Test
+    public void pixelsToValueDoesNotAllocate() {
+
+        final Transformer trans = new Transformer(new ViewPortHandler());
+        final float[] pts = new float[2];
+        final PointD point = new PointD(0, 0);
+
+        long bytes = AllocationCounter.countAllocatedBytes(new Runnable() {
+
+            @Override
+            public void run() {
+
+                for (int i = 0; i < 100; i++) {
+                    pts[0] = i;
+                    pts[1] = i * 2f;
+                    trans.pixelsToValue(pts);
+                    trans.getValuesByTouchPoint(i, i * 2f, point);
+                }
+            }
+        });
+
+        assertEquals(0, bytes);
+    }
+
+    private static List<Entry> createEntries(int count) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry((float) Math.sin(i / 10.0), i));
+
+        return entries;
+    }
+}